@@ -0,0 +1,80 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.request.EnderecoRequestDTO;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.mapper.ClienteMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClienteMapperBenchmark {
+
+    private final ClienteMapper mapper = Mappers.getMapper(ClienteMapper.class);
+
+    private Cliente cliente;
+    private ClienteEntity entity;
+    private ClienteRequestDTO requestDTO;
+
+    @Setup
+    public void setUp() {
+        cliente = DadosBenchmark.cliente();
+        entity = mapper.toEntity(cliente);
+        requestDTO = ClienteRequestDTO.builder()
+                .nome(cliente.getNome())
+                .cpf(cliente.getCpf())
+                .dataNascimento(cliente.getDataNascimento())
+                .endereco(EnderecoRequestDTO.builder()
+                        .rua(cliente.getEndereco().getRua())
+                        .numero(cliente.getEndereco().getNumero())
+                        .cep(cliente.getEndereco().getCep())
+                        .cidade(cliente.getEndereco().getCidade())
+                        .estado(cliente.getEndereco().getEstado())
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public ClienteEntity domainParaEntity() {
+        return mapper.toEntity(cliente);
+    }
+
+    @Benchmark
+    public Cliente entityParaDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Cliente requestDtoParaDomain() {
+        return mapper.toDomain(requestDTO);
+    }
+
+    @Benchmark
+    public ClienteResponseDTO domainParaResponseDto() {
+        return mapper.toResponseDTO(cliente);
+    }
+
+    // Caminho completo de uma leitura: linha do banco ate o corpo da resposta
+    @Benchmark
+    public ClienteResponseDTO entityParaResponseDto() {
+        return mapper.toResponseDTO(mapper.toDomain(entity));
+    }
+}
@@ -0,0 +1,70 @@
+package com.fiap.cliente.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.mapper.ClienteMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClienteSerializacaoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int quantidade;
+
+    private List<ClienteResponseDTO> clientes;
+    private ObjectMapper objectMapper;
+    private ObjectWriter writerLista;
+    private ObjectWriter writerItem;
+
+    @Setup
+    public void setUp() {
+        ClienteMapper mapper = Mappers.getMapper(ClienteMapper.class);
+        clientes = DadosBenchmark.clientes(quantidade).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList());
+        // Mesma configuracao do ObjectMapper que o Spring Boot injeta nos controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writerLista = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ClienteResponseDTO.class));
+        writerItem = objectMapper.writerFor(ClienteResponseDTO.class);
+    }
+
+    // GET /clientes
+    @Benchmark
+    public byte[] listaJson() throws JsonProcessingException {
+        return writerLista.writeValueAsBytes(clientes);
+    }
+
+    // GET /clientes/export: um documento por cliente
+    @Benchmark
+    public int ndjson() throws JsonProcessingException {
+        int bytes = 0;
+        for (ClienteResponseDTO cliente : clientes) {
+            bytes += writerItem.writeValueAsBytes(cliente).length + 1;
+        }
+        return bytes;
+    }
+}
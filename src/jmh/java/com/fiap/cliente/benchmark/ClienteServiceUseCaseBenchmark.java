@@ -0,0 +1,66 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.usecase.service.ClienteServiceUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClienteServiceUseCaseBenchmark {
+
+    private ClienteServiceUseCase useCase;
+    private Cliente alteracao;
+    private Cliente alteracaoSemEndereco;
+
+    @Setup
+    public void setUp() {
+        useCase = new ClienteServiceUseCase(gatewayEmMemoria(Map.of(1L, DadosBenchmark.cliente())));
+        alteracao = DadosBenchmark.clientes(2).get(1);
+        alteracao.setId(1L);
+        alteracaoSemEndereco = DadosBenchmark.clientes(2).get(1);
+        alteracaoSemEndereco.setId(1L);
+        alteracaoSemEndereco.setEndereco(null);
+    }
+
+    @Benchmark
+    public Cliente atualizar() {
+        return useCase.atualizar(alteracao);
+    }
+
+    @Benchmark
+    public Cliente atualizarSemEndereco() {
+        return useCase.atualizar(alteracaoSemEndereco);
+    }
+
+    /**
+     * Gateway sem I/O que só atende o que {@code atualizar} usa, para isolar o custo do merge de campos feito pelo caso
+     * de uso. Um mock do Mockito custaria mais que o próprio merge.
+     */
+    private static ClienteGateway gatewayEmMemoria(Map<Long, Cliente> clientes) {
+        return (ClienteGateway) Proxy.newProxyInstance(ClienteGateway.class.getClassLoader(),
+                new Class<?>[]{ClienteGateway.class}, (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "buscarPorId" -> Optional.ofNullable(clientes.get((Long) args[0]));
+                    case "atualizar" -> args[0];
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Endereco;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Massa de dados dos benchmarks: semente fixa para que cada execucao (e cada commit) meca os mesmos clientes.
+ */
+final class DadosBenchmark {
+
+    private static final long SEMENTE = 42L;
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela", "Heitor"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Santos", "Pereira", "Lima"};
+    private static final String[] CIDADES = {"São Paulo", "Rio de Janeiro", "Belo Horizonte", "Curitiba", "Recife"};
+    private static final String[] ESTADOS = {"SP", "RJ", "MG", "PR", "PE"};
+
+    private DadosBenchmark() {
+    }
+
+    static List<Cliente> clientes(int quantidade) {
+        Random random = new Random(SEMENTE);
+        return IntStream.rangeClosed(1, quantidade)
+                .mapToObj(id -> cliente(random, id))
+                .collect(Collectors.toList());
+    }
+
+    static Cliente cliente() {
+        return cliente(new Random(SEMENTE), 1);
+    }
+
+    private static Cliente cliente(Random random, long id) {
+        int cidade = random.nextInt(CIDADES.length);
+        return Cliente.builder()
+                .id(id)
+                .nome(NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)])
+                .cpf(String.format("%011d", Math.floorMod(random.nextLong(), 100_000_000_000L)))
+                .dataNascimento(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20_000)))
+                .endereco(Endereco.builder()
+                        .rua("Rua " + (random.nextInt(500) + 1))
+                        .numero(String.valueOf(random.nextInt(2_000) + 1))
+                        .cep(String.format("%05d-%03d", random.nextInt(100_000), random.nextInt(1_000)))
+                        .cidade(CIDADES[cidade])
+                        .estado(ESTADOS[cidade])
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.fiap.cliente.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private IllegalArgumentException argumentoIlegal;
+    private MethodArgumentNotValidException validacao;
+    private RuntimeException inesperada;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        // Mede a montagem do corpo da resposta, nao o appender de log
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+
+        argumentoIlegal = new IllegalArgumentException("CPF já cadastrado!");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new ClienteRequestDTO(), "clienteRequestDTO");
+        bindingResult.addError(new FieldError("clienteRequestDTO", "nome", "não deve estar em branco"));
+        bindingResult.addError(new FieldError("clienteRequestDTO", "cpf", "deve conter 11 dígitos"));
+        MethodParameter parametro = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("setUp"), -1);
+        validacao = new MethodArgumentNotValidException(parametro, bindingResult);
+        inesperada = new RuntimeException("Falha inesperada");
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> argumentoIlegal() {
+        return handler.handleIllegalArgumentException(argumentoIlegal);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> erroDeValidacao() {
+        return handler.handleValidationException(validacao);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> erroInesperado() {
+        return handler.handleAllExceptions(inesperada);
+    }
+}
@@ -1,11 +1,14 @@
 package com.fiap.cliente;
 
+import com.fiap.cliente.config.aot.ClienteRuntimeHints;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Slf4j
 @SpringBootApplication
+@ImportRuntimeHints(ClienteRuntimeHints.class)
 public class ClienteServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,39 @@
+package com.fiap.cliente.config.aot;
+
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import com.fiap.cliente.gateway.repository.CpfIdProjection;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Hints da imagem nativa para o que o Spring AOT não descobre sozinho: classes que o Hibernate instancia por reflexão,
+ * recursos lidos pelo nome e tipos serializados em JSON fora do retorno dos controllers. Entidades, repositórios,
+ * mapper (código gerado pelo MapStruct) e DTOs de entrada e saída dos endpoints já são cobertos pelo AOT.
+ */
+public class ClienteRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String PROVEDOR_JCACHE = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Gerador da sequência de alteração (@ValueGenerationType) e projeção do construtor JPQL
+        hints.reflection()
+                .registerType(SequenciaAlteracaoGenerator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(CpfIdProjection.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                // Provedor do cache de segundo nível, resolvido pelo nome em hibernate.javax.cache.provider
+                .registerType(TypeReference.of(PROVEDOR_JCACHE), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        // Regiões do Caffeine (application.conf sobre o reference.conf) e DDL do perfil reactive
+        hints.resources()
+                .registerPattern("application.conf")
+                .registerPattern("reference.conf")
+                .registerPattern("db/reactive/*.sql");
+        // Export NDJSON, eventos SSE e payload do outbox
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ClienteResponseDTO.class, EventoCliente.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.fiap.cliente.config.aquecimento;
+
+import com.fiap.cliente.dto.request.ClienteLookupRequestDTO;
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.request.EnderecoRequestDTO;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercita pela porta local os caminhos de controller, mapper, casos de uso, caches e repositório logo depois da subida,
+ * antes de a aplicação ser marcada como pronta. No modo {@code cds} a JVM sai em seguida e
+ * {@code -XX:ArchiveClassesAtExit} grava as classes carregadas; no modo {@code crac} o checkpoint é feito com o JIT e o
+ * pool do Hikari já aquecidos. Os cadastros usam uma faixa própria de CPFs: aponte só para bancos descartáveis.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "cliente.aquecimento.modo")
+@EnableConfigurationProperties(AquecimentoProperties.class)
+@RequiredArgsConstructor
+public class AquecimentoAplicacao implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final long CPF_INICIAL = 99_900_000_000L;
+    private static final String CPF_INEXISTENTE = "00000000000";
+
+    private final AquecimentoProperties properties;
+    private final RestClient.Builder restClientBuilder;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext contexto = event.getApplicationContext();
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        // HttpClient do JDK: o HttpURLConnection padrão não envia PATCH
+        RestClient cliente = restClientBuilder.requestFactory(new JdkClientHttpRequestFactory())
+                .baseUrl("http://localhost:" + porta + "/clientes")
+                .build();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < properties.getIteracoes(); i++) {
+            exercitar(cliente, String.format("%011d", CPF_INICIAL + i));
+        }
+        log.info("Aquecimento concluído: {} iterações em {} ms", properties.getIteracoes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+
+        switch (properties.getModo()) {
+            case CDS -> System.exit(SpringApplication.exit(contexto));
+            case CRAC -> checkpoint();
+        }
+    }
+
+    private static void exercitar(RestClient cliente, String cpf) {
+        ClienteRequestDTO novo = ClienteRequestDTO.builder()
+                .nome("Cliente Aquecimento")
+                .cpf(cpf)
+                .dataNascimento(LocalDate.of(1990, 1, 1))
+                .endereco(EnderecoRequestDTO.builder()
+                        .rua("Rua A")
+                        .numero("100")
+                        .cep("01000-000")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .build())
+                .build();
+        // Numa segunda rodada contra o mesmo banco o CPF já existe (400) e o aquecimento segue com o cadastro anterior
+        chamar(cliente.post().contentType(MediaType.APPLICATION_JSON).body(novo));
+        ClienteResponseDTO salvo = cliente.get().uri("/{cpf}", cpf).retrieve().body(ClienteResponseDTO.class);
+        chamar(cliente.patch().uri("/{id}", salvo.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ClienteRequestDTO.builder().nome("Cliente Aquecido").build()));
+        chamar(cliente.get().uri("/{cpf}", CPF_INEXISTENTE));
+        chamar(cliente.post().uri("/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ClienteLookupRequestDTO.builder().cpfs(Set.of(cpf, CPF_INEXISTENTE)).build()));
+        chamar(cliente.get().uri("/pagina?limit=50"));
+        chamar(cliente.get().uri("/changes?limit=50"));
+    }
+
+    // Respostas de erro também aquecem o GlobalExceptionHandler; só interessam as classes e o código exercitados
+    private static void chamar(RestClient.RequestHeadersSpec<?> requisicao) {
+        requisicao.retrieve()
+                .onStatus(status -> true, (request, response) -> { })
+                .toBodilessEntity();
+    }
+
+    // O Spring para Tomcat e Hikari antes do checkpoint e os retoma no restore
+    private static void checkpoint() {
+        try {
+            Core.checkpointRestore();
+            log.info("Aplicação restaurada do checkpoint CRaC");
+        } catch (UnsupportedOperationException e) {
+            log.warn("JVM sem suporte a CRaC; aplicação segue sem checkpoint");
+        } catch (CheckpointException | RestoreException e) {
+            log.error("Falha no checkpoint CRaC; aplicação segue sem checkpoint", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.cliente.config.aquecimento;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Aquecimento na subida: com {@code modo} definido a aplicação exercita a própria API {@code iteracoes} vezes e então
+ * sai ({@code cds}, treino do arquivo AppCDS no build da imagem) ou grava o checkpoint ({@code crac}).
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.aquecimento")
+public class AquecimentoProperties {
+
+    private Modo modo;
+    private int iteracoes = 200;
+
+    public enum Modo {
+        CDS,
+        CRAC
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.cliente.config.cache;
+
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacaoLocal;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({CacheProperties.class, CacheHttpProperties.class})
+public class CacheConfig {
+
+    public static final String CLIENTES_POR_CPF = "clientesPorCpf";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        // Invalidações só são aplicadas após o commit, para uma leitura concorrente não repovoar o valor antigo
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // Sem transporte entre instâncias configurado, as invalidações ficam na própria JVM
+    @Bean
+    @ConditionalOnMissingBean
+    public TransporteInvalidacao transporteInvalidacao() {
+        return new TransporteInvalidacaoLocal();
+    }
+}
@@ -0,0 +1,17 @@
+package com.fiap.cliente.config.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cache HTTP das leituras de clientes: {@code max-age} enviado no {@code Cache-Control} das respostas com ETag, por
+ * quanto tempo clientes e caches intermediários podem reutilizar a resposta sem revalidar.
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.http.cache")
+public class CacheHttpProperties {
+
+    private Duration maxAge = Duration.ofSeconds(60);
+}
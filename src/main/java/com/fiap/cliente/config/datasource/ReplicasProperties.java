@@ -0,0 +1,32 @@
+package com.fiap.cliente.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code cliente.datasource.replicas[n].url/username/password}). Uma réplica só recebe consultas
+ * enquanto o atraso medido por {@code consultaAtraso} (em segundos) não passar de {@code atrasoMaximo}.
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.datasource")
+public class ReplicasProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration atrasoMaximo = Duration.ofSeconds(5);
+    private Duration intervaloVerificacao = Duration.ofSeconds(5);
+    // PostgreSQL: zero quando a réplica já aplicou todo o WAL recebido (ou não está em recuperação)
+    private String consultaAtraso = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
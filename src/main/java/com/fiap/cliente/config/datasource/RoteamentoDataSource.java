@@ -0,0 +1,135 @@
+package com.fiap.cliente.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transações somente leitura vão para as réplicas disponíveis em round-robin; escritas, leituras fora de transação e
+ * leituras sem réplica disponível ficam no primário. Precisa ficar atrás de um {@code LazyConnectionDataSourceProxy},
+ * para a conexão só ser obtida depois de a transação marcar se é somente leitura. Uma transação lida de réplica pode
+ * ver linhas atrasadas: ela fica marcada ({@link #leituraEmReplica()}) e nada do que carrega deve alimentar caches.
+ */
+@Slf4j
+public class RoteamentoDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARIO = "primario";
+    private static final Object LEITURA_EM_REPLICA = new Object();
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> nomesReplicas;
+    private final String consultaAtraso;
+    private final double atrasoMaximoSegundos;
+    // Começa vazio: até a primeira verificação, tudo vai para o primário
+    private final Set<String> disponiveis = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger proxima = new AtomicInteger();
+    private Runnable aoLerDeReplica = () -> { };
+
+    public RoteamentoDataSource(DataSource primario, Map<String, DataSource> replicas, String consultaAtraso,
+                                Duration atrasoMaximo) {
+        this.replicas = replicas;
+        this.nomesReplicas = new ArrayList<>(replicas.keySet());
+        this.consultaAtraso = consultaAtraso;
+        this.atrasoMaximoSegundos = atrasoMaximo.toMillis() / 1000.0;
+        Map<Object, Object> alvos = new HashMap<>(replicas);
+        alvos.put(PRIMARIO, primario);
+        setTargetDataSources(alvos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARIO;
+        }
+        int inicio = Math.floorMod(proxima.getAndIncrement(), nomesReplicas.size());
+        for (int i = 0; i < nomesReplicas.size(); i++) {
+            String replica = nomesReplicas.get((inicio + i) % nomesReplicas.size());
+            if (disponiveis.contains(replica)) {
+                marcarLeituraEmReplica();
+                return replica;
+            }
+        }
+        return PRIMARIO;
+    }
+
+    // Executado uma vez por transação, quando ela passa a ler de uma réplica
+    public void setAoLerDeReplica(Runnable aoLerDeReplica) {
+        this.aoLerDeReplica = aoLerDeReplica;
+    }
+
+    public static boolean leituraEmReplica() {
+        return TransactionSynchronizationManager.hasResource(LEITURA_EM_REPLICA);
+    }
+
+    private void marcarLeituraEmReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(LEITURA_EM_REPLICA)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(LEITURA_EM_REPLICA, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LEITURA_EM_REPLICA);
+            }
+        });
+        aoLerDeReplica.run();
+    }
+
+    /**
+     * Mede o atraso de cada réplica e retira do roteamento as que estiverem atrasadas, fora do ar ou sem resposta
+     * para a consulta; chamado periodicamente pela configuração.
+     */
+    public void verificarReplicas() {
+        replicas.forEach((nome, replica) -> {
+            boolean disponivel = atrasoEmSegundos(nome, replica) <= atrasoMaximoSegundos;
+            if (disponivel && disponiveis.add(nome)) {
+                log.info("Réplica {} disponível para leituras", nome);
+            } else if (!disponivel && disponiveis.remove(nome)) {
+                log.warn("Réplica {} retirada do roteamento; leituras seguem para as demais ou para o primário", nome);
+            }
+        });
+    }
+
+    private double atrasoEmSegundos(String nome, DataSource replica) {
+        try (Connection conexao = replica.getConnection();
+             Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery(consultaAtraso)) {
+            if (!resultado.next()) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double atraso = resultado.getDouble(1);
+            return resultado.wasNull() ? Double.POSITIVE_INFINITY : atraso;
+        } catch (SQLException e) {
+            log.debug("Falha ao medir o atraso da réplica {}: {}", nome, e.getMessage());
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+}
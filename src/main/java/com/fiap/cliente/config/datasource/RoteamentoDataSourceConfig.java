@@ -0,0 +1,93 @@
+package com.fiap.cliente.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Só é ativada com ao menos uma réplica configurada; sem ela, o DataSource único do Spring Boot segue valendo.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "cliente.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicasProperties.class)
+public class RoteamentoDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(HikariDataSource primarioDataSource, ReplicasProperties properties,
+                                                     ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicasProperties.Replica> configuradas = properties.getReplicas();
+        for (int i = 0; i < configuradas.size(); i++) {
+            ReplicasProperties.Replica replica = configuradas.get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setReadOnly(true);
+            replicas.put(pool.getPoolName(), pool);
+        }
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(primarioDataSource, replicas,
+                properties.getConsultaAtraso(), properties.getAtrasoMaximo());
+        // Entidades lidas da réplica podem estar atrasadas: a sessão passa a só consultar o cache de segundo nível
+        roteamento.setAoLerDeReplica(() -> entityManagerFactory.ifAvailable(emf -> {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(emf);
+            if (holder != null) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }));
+        return roteamento;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamentoDataSource) {
+        return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService verificadorReplicas(RoteamentoDataSource roteamentoDataSource,
+                                                        ReplicasProperties properties) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "verificador-replicas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(roteamentoDataSource::verificarReplicas, 0,
+                properties.getIntervaloVerificacao().toMillis(), TimeUnit.MILLISECONDS);
+        return executor;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.cliente.config.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import com.fiap.cliente.gateway.outbox.LimpezaOutbox;
+import com.fiap.cliente.gateway.outbox.OutboxRelay;
+import com.fiap.cliente.gateway.outbox.PublicadorEventos;
+import com.fiap.cliente.gateway.outbox.PublicadorEventosArquivo;
+import com.fiap.cliente.gateway.outbox.PublicadorEventosKafka;
+import com.fiap.cliente.gateway.outbox.PublicadorEventosMemoria;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Só é ativada com {@code cliente.outbox.sink} definido; os eventos continuam sendo gravados no outbox de qualquer forma.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "cliente.outbox.sink")
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cliente.outbox.sink", havingValue = "memoria")
+    public PublicadorEventosMemoria publicadorEventosMemoria() {
+        return new PublicadorEventosMemoria();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cliente.outbox.sink", havingValue = "arquivo")
+    public PublicadorEventosArquivo publicadorEventosArquivo(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new PublicadorEventosArquivo(properties.getArquivo(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cliente.outbox.sink", havingValue = "kafka")
+    public PublicadorEventosKafka publicadorEventosKafka(KafkaTemplate<String, String> kafkaTemplate,
+                                                         OutboxProperties properties, ObjectMapper objectMapper) {
+        return new PublicadorEventosKafka(kafkaTemplate, properties.getTopico(), objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(EventoClienteGateway eventoGateway, PublicadorEventos publicador,
+                                   TransactionTemplate transactionTemplate, OutboxProperties properties) {
+        return new OutboxRelay(eventoGateway, publicador, transactionTemplate, properties.getTamanhoLote());
+    }
+
+    @Bean
+    public LimpezaOutbox limpezaOutbox(EventoClienteGateway eventoGateway, OutboxProperties properties) {
+        return new LimpezaOutbox(eventoGateway, properties.getRetencao());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService relayOutbox(OutboxRelay outboxRelay, LimpezaOutbox limpezaOutbox,
+                                                OutboxProperties properties) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "relay-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(outboxRelay::executar, properties.getIntervalo().toMillis(),
+                properties.getIntervalo().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(limpezaOutbox::executar, properties.getIntervaloLimpeza().toMillis(),
+                properties.getIntervaloLimpeza().toMillis(), TimeUnit.MILLISECONDS);
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fiap.cliente.config.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Relay do outbox de eventos de clientes. {@code sink} escolhe o destino ({@code memoria}, {@code arquivo} ou
+ * {@code kafka}); sem ele o relay não sobe e os eventos só se acumulam na tabela {@code outbox_eventos}.
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.outbox")
+public class OutboxProperties {
+
+    private String sink;
+    private int tamanhoLote = 500;
+    private Duration intervalo = Duration.ofSeconds(1);
+    private Path arquivo = Path.of("outbox-eventos.ndjson");
+    private String topico = "clientes.eventos";
+    // Eventos publicados há mais que isso são removidos da tabela a cada intervaloLimpeza
+    private Duration retencao = Duration.ofDays(7);
+    private Duration intervaloLimpeza = Duration.ofHours(1);
+}
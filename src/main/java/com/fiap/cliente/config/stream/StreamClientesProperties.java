@@ -0,0 +1,23 @@
+package com.fiap.cliente.config.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Stream SSE de alterações ({@code GET /clientes/stream}): {@code buffer} é quantas alterações cada assinante pode ter
+ * pendentes antes de ser desconectado, e {@code batimento} o intervalo dos comentários que mantêm a
+ * conexão aberta em proxies. Acima de {@code max-assinantes} conexões simultâneas novas assinaturas recebem 503, e
+ * {@code threads-envio} limita as threads que escrevem nas conexões.
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.stream")
+public class StreamClientesProperties {
+
+    private int buffer = 256;
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration batimento = Duration.ofSeconds(15);
+    private int maxAssinantes = 1000;
+    private int threadsEnvio = 16;
+}
@@ -1,72 +1,335 @@
 package com.fiap.cliente.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fiap.cliente.config.cache.CacheHttpProperties;
+import com.fiap.cliente.config.stream.StreamClientesProperties;
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.ItemImportacao;
+import com.fiap.cliente.domain.StatusImportacao;
+import com.fiap.cliente.dto.request.ClienteLookupRequestDTO;
 import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.response.ClienteAlteracoesResponseDTO;
+import com.fiap.cliente.dto.response.ClientePaginaResponseDTO;
 import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.dto.response.ImportacaoResponseDTO;
+import com.fiap.cliente.gateway.stream.AssinaturaAlteracoes;
+import com.fiap.cliente.logging.CpfMascarado;
+import com.fiap.cliente.mapper.ClienteCsvMapper;
 import com.fiap.cliente.mapper.ClienteMapper;
+import com.fiap.cliente.usecase.service.AcompanharClientesServiceUseCase;
 import com.fiap.cliente.usecase.service.AtualizarClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCase;
 import com.fiap.cliente.usecase.service.BuscarClientePorCpfServiceUseCase;
+import com.fiap.cliente.usecase.service.BuscarClientesPorCpfsServiceUseCase;
 import com.fiap.cliente.usecase.service.CadastrarClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.ExportarClientesServiceUseCase;
+import com.fiap.cliente.usecase.service.ImportarClientesServiceUseCase;
+import com.fiap.cliente.usecase.service.ListarAlteracoesClientesServiceUseCase;
 import com.fiap.cliente.usecase.service.ListarClientesServiceUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/clientes")
 @RequiredArgsConstructor
 public class ClienteController {
 
     private final CadastrarClienteServiceUseCase cadastrarUseCase;
     private final AtualizarClienteServiceUseCase atualizarUseCase;
+    private final AtualizarParcialClienteServiceUseCase atualizarParcialUseCase;
     private final BuscarClientePorCpfServiceUseCase buscarPorCpfUseCase;
+    private final BuscarClientesPorCpfsServiceUseCase buscarPorCpfsUseCase;
     private final ListarClientesServiceUseCase listarUseCase;
+    private final ListarAlteracoesClientesServiceUseCase listarAlteracoesUseCase;
+    private final ExportarClientesServiceUseCase exportarUseCase;
+    private final ImportarClientesServiceUseCase importarUseCase;
+    private final AcompanharClientesServiceUseCase acompanharUseCase;
     private final ClienteMapper mapper;
+    private final ClienteCsvMapper csvMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheHttpProperties cacheHttpProperties;
+    private final StreamClientesProperties streamProperties;
 
     @PostMapping
     public ResponseEntity<ClienteResponseDTO> cadastrar(@RequestBody ClienteRequestDTO dto) {
-        log.info("Iniciando cadastro de cliente com CPF: {}", dto.getCpf());
+        log.debug("Iniciando cadastro de cliente com CPF: {}", CpfMascarado.de(dto.getCpf()));
         Cliente cliente = mapper.toDomain(dto);
         Cliente salvo = cadastrarUseCase.execute(cliente);
-        log.info("Cliente cadastrado com sucesso, ID: {}", salvo.getId());
-        return ResponseEntity.ok(mapper.toResponseDTO(salvo));
+        log.debug("Cliente cadastrado com sucesso, ID: {}", salvo.getId());
+        return ResponseEntity.ok().eTag(etag(salvo)).body(mapper.toResponseDTO(salvo));
+    }
+
+    @PostMapping(value = "/importacao", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportacaoResponseDTO importar(@RequestBody List<ClienteRequestDTO> dtos) {
+        log.info("Iniciando importação JSON de {} clientes", dtos.size());
+        return toImportacaoResponseDTO(importarUseCase.execute(mapper.toDomainList(dtos)));
+    }
+
+    @PostMapping(value = "/importacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ImportacaoResponseDTO importarCsv(@RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+        log.info("Iniciando importação CSV do arquivo: {}", arquivo.getOriginalFilename());
+        List<ClienteRequestDTO> dtos = csvMapper.toRequestDTOs(arquivo.getInputStream());
+        return toImportacaoResponseDTO(importarUseCase.execute(mapper.toDomainList(dtos)));
     }
 
     @GetMapping("/{cpf}")
-    public ResponseEntity<ClienteResponseDTO> buscarPorCpf(@PathVariable String cpf) {
-        log.info("Buscando cliente por CPF: {}", cpf);
+    public ResponseEntity<ClienteResponseDTO> buscarPorCpf(@PathVariable String cpf, WebRequest request) {
+        log.debug("Buscando cliente por CPF: {}", CpfMascarado.de(cpf));
         return buscarPorCpfUseCase.execute(cpf)
                 .map(cliente -> {
-                    log.info("Cliente encontrado para CPF: {}", cpf);
-                    return ResponseEntity.ok(mapper.toResponseDTO(cliente));
+                    log.debug("Cliente encontrado para CPF: {}", CpfMascarado.de(cpf));
+                    return respostaCondicional(request, etag(cliente), cliente.getAtualizadoEm(),
+                            () -> mapper.toResponseDTO(cliente));
                 })
                 .orElseGet(() -> {
-                    log.warn("Cliente não encontrado para CPF: {}", cpf);
+                    log.debug("Cliente não encontrado para CPF: {}", CpfMascarado.de(cpf));
                     return ResponseEntity.notFound().build();
                 });
     }
 
+    @PostMapping("/lookup")
+    public Map<String, ClienteResponseDTO> buscarPorCpfs(@RequestBody ClienteLookupRequestDTO dto) {
+        log.debug("Buscando clientes por lote de CPFs");
+        Map<String, ClienteResponseDTO> clientes = buscarPorCpfsUseCase.execute(dto.getCpfs()).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> mapper.toResponseDTO(entry.getValue())));
+        log.debug("Clientes encontrados no lote: {}", clientes.size());
+        return clientes;
+    }
+
+    // Sem "limit" devolve só os 100 primeiros: a tabela inteira numa resposta só não cabe na memória nem no ETag
     @GetMapping
-    public List<ClienteResponseDTO> listarTodos() {
-        log.info("Listando todos os clientes");
-        List<ClienteResponseDTO> clientes = listarUseCase.execute().stream()
-                .map(mapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<ClienteResponseDTO>> listarTodos(@RequestParam(required = false) Long after,
+                                                                @RequestParam(defaultValue = "100") int limit,
+                                                                WebRequest request) {
+        log.info("Listando clientes após ID: {}, limite: {}", after, limit);
+        List<Cliente> clientes = listarUseCase.execute(after, limit);
         log.info("Total de clientes listados: {}", clientes.size());
-        return clientes;
+        return respostaCondicional(request, etag(clientes), atualizadoEm(clientes), () -> clientes.stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/pagina")
+    public ResponseEntity<ClientePaginaResponseDTO> listarPagina(@RequestParam(required = false) Long after,
+                                                                 @RequestParam(defaultValue = "100") int limit,
+                                                                 WebRequest request) {
+        log.info("Listando página de clientes após ID: {}, limite: {}", after, limit);
+        List<Cliente> pagina = listarUseCase.execute(after, limit);
+        return respostaCondicional(request, etag(pagina), atualizadoEm(pagina), () -> {
+            List<ClienteResponseDTO> clientes = pagina.stream()
+                    .map(mapper::toResponseDTO)
+                    .collect(Collectors.toList());
+            Long proximoCursor = pagina.size() == limit ? pagina.get(pagina.size() - 1).getId() : null;
+            return ClientePaginaResponseDTO.builder()
+                    .clientes(clientes)
+                    .proximoCursor(proximoCursor)
+                    .build();
+        });
+    }
+
+    // Sincronização incremental: sem "since" começa do início; o proximoToken da resposta vira o "since" seguinte
+    @GetMapping("/changes")
+    public ClienteAlteracoesResponseDTO listarAlteracoes(@RequestParam(required = false) String since,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        Long aposSequencia = since == null ? null : sequencia(since);
+        List<Cliente> alterados = listarAlteracoesUseCase.execute(aposSequencia, limit);
+        log.info("Alterações de clientes listadas: {}", alterados.size());
+        long ultimaSequencia = alterados.isEmpty()
+                ? valorOuZero(aposSequencia)
+                : alterados.get(alterados.size() - 1).getSequenciaAlteracao();
+        return ClienteAlteracoesResponseDTO.builder()
+                .clientes(alterados.stream().map(mapper::toResponseDTO).collect(Collectors.toList()))
+                .proximoToken(token(ultimaSequencia))
+                .temMais(alterados.size() == limit)
+                .build();
+    }
+
+    // Server-Sent Events: cadastros e atualizações confirmados em qualquer instância, opcionalmente só dos CPFs informados
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanhar(@RequestParam(name = "cpf", required = false) List<String> cpfs) {
+        log.info("Nova assinatura do stream de clientes, CPFs filtrados: {}", cpfs == null ? 0 : cpfs.size());
+        SseEmitter emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+        AssinaturaAlteracoes assinatura = acompanharUseCase.execute(cpfs, new EntregaAlteracoesSse(emitter, mapper));
+        emitter.onCompletion(() -> acompanharUseCase.cancelar(assinatura));
+        emitter.onError(erro -> acompanharUseCase.cancelar(assinatura));
+        // No timeout o stream termina normalmente e o EventSource do navegador reconecta
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        log.info("Exportando clientes em NDJSON");
+        ObjectWriter writer = objectMapper.writerFor(ClienteResponseDTO.class);
+        StreamingResponseBody corpo = saida -> exportarUseCase.execute(cliente -> {
+            try {
+                saida.write(writer.writeValueAsBytes(mapper.toResponseDTO(cliente)));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ClienteResponseDTO> atualizar(@PathVariable Long id, @RequestBody ClienteRequestDTO dto) {
-        log.info("Atualizando cliente ID: {}", id);
+    public ResponseEntity<ClienteResponseDTO> atualizar(@PathVariable Long id, @RequestBody ClienteRequestDTO dto,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Atualizando cliente ID: {}", id);
         Cliente cliente = mapper.toDomain(dto);
+        cliente.setVersao(versaoEsperada(id, ifMatch));
         Cliente atualizado = atualizarUseCase.execute(id, cliente);
-        log.info("Cliente atualizado com sucesso, ID: {}", atualizado.getId());
-        return ResponseEntity.ok(mapper.toResponseDTO(atualizado));
+        log.debug("Cliente atualizado com sucesso, ID: {}", atualizado.getId());
+        return ResponseEntity.ok().eTag(etag(atualizado)).body(mapper.toResponseDTO(atualizado));
+    }
+
+    // Documento esparso: apenas os campos enviados (não nulos) são alterados
+    @PatchMapping("/{id}")
+    public ResponseEntity<ClienteResponseDTO> atualizarParcial(@PathVariable Long id, @RequestBody ClienteRequestDTO dto,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Atualizando parcialmente cliente ID: {}", id);
+        Cliente alteracoes = mapper.toDomain(dto);
+        alteracoes.setVersao(versaoEsperada(id, ifMatch));
+        Cliente atualizado = atualizarParcialUseCase.execute(id, alteracoes);
+        return ResponseEntity.ok().eTag(etag(atualizado)).body(mapper.toResponseDTO(atualizado));
+    }
+
+    // Revalidação que confere (If-None-Match ou If-Modified-Since) vira 304 antes de o corpo ser mapeado e serializado
+    private <T> ResponseEntity<T> respostaCondicional(WebRequest request, String etag, Instant atualizadoEm, Supplier<T> corpo) {
+        CacheControl cacheControl = CacheControl.maxAge(cacheHttpProperties.getMaxAge());
+        if (request.checkNotModified(etag, atualizadoEm == null ? -1 : atualizadoEm.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok().eTag(etag).cacheControl(cacheControl);
+        if (atualizadoEm != null) {
+            resposta.lastModified(atualizadoEm);
+        }
+        return resposta.body(corpo.get());
+    }
+
+    // ETag forte "<id>-<versao>": o id evita um 304 indevido quando o CPF passa a pertencer a outro cadastro
+    private static String etag(Cliente cliente) {
+        return "\"" + cliente.getId() + "-" + cliente.getVersao() + "\"";
+    }
+
+    // Listagens: hash dos pares (id, versao) na ordem retornada; qualquer inclusão ou alteração muda o ETag
+    private static String etag(List<Cliente> clientes) {
+        MessageDigest digest = sha256();
+        ByteBuffer par = ByteBuffer.allocate(2 * Long.BYTES);
+        for (Cliente cliente : clientes) {
+            par.clear();
+            par.putLong(valorOuMenosUm(cliente.getId())).putLong(valorOuMenosUm(cliente.getVersao())).flip();
+            digest.update(par);
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    // Sem a data de algum cliente (ex.: gravado antes da coluna existir) a listagem não anuncia Last-Modified
+    private static Instant atualizadoEm(List<Cliente> clientes) {
+        Instant maisRecente = null;
+        for (Cliente cliente : clientes) {
+            if (cliente.getAtualizadoEm() == null) {
+                return null;
+            }
+            if (maisRecente == null || cliente.getAtualizadoEm().isAfter(maisRecente)) {
+                maisRecente = cliente.getAtualizadoEm();
+            }
+        }
+        return maisRecente;
+    }
+
+    // Token opaco: a sequência de alteração em base64url, para o cliente não depender do formato
+    private static String token(long sequencia) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(sequencia).array());
+    }
+
+    private static long sequencia(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length == Long.BYTES) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Token de sincronização malformado: {}", token);
+        }
+        throw new IllegalArgumentException("Token de sincronização inválido!");
+    }
+
+    private static long valorOuZero(Long valor) {
+        return valor == null ? 0 : valor;
+    }
+
+    private static long valorOuMenosUm(Long valor) {
+        return valor == null ? -1 : valor;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Sem If-Match (ou "*") a escrita não é condicionada; um ETag de outro cliente ou malformado nunca confere
+    private static Long versaoEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        String prefixo = "\"" + id + "-";
+        if (valor.startsWith(prefixo) && valor.endsWith("\"") && valor.length() > prefixo.length() + 1) {
+            try {
+                return Long.parseLong(valor.substring(prefixo.length(), valor.length() - 1));
+            } catch (NumberFormatException e) {
+                log.debug("If-Match inválido para o cliente ID: {}", id);
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match não corresponde ao cliente ID: " + id);
+    }
+
+    private ImportacaoResponseDTO toImportacaoResponseDTO(List<ItemImportacao> itens) {
+        int importados = (int) itens.stream()
+                .filter(item -> item.getStatus() == StatusImportacao.IMPORTADO)
+                .count();
+        log.info("Importação finalizada: {} importados, {} rejeitados", importados, itens.size() - importados);
+        return ImportacaoResponseDTO.builder()
+                .total(itens.size())
+                .importados(importados)
+                .rejeitados(itens.size() - importados)
+                .itens(itens.stream().map(mapper::toResponseDTO).collect(Collectors.toList()))
+                .build();
     }
 }
\ No newline at end of file
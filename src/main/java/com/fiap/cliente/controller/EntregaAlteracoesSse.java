@@ -0,0 +1,35 @@
+package com.fiap.cliente.controller;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.stream.EntregaAlteracoes;
+import com.fiap.cliente.mapper.ClienteMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// Cada alteração vira um evento "cliente" com o ClienteResponseDTO em JSON; o batimento é um comentário SSE
+@RequiredArgsConstructor
+class EntregaAlteracoesSse implements EntregaAlteracoes {
+
+    static final String EVENTO = "cliente";
+
+    private final SseEmitter emitter;
+    private final ClienteMapper mapper;
+
+    @Override
+    public void enviar(Cliente cliente) throws IOException {
+        emitter.send(SseEmitter.event().name(EVENTO).data(mapper.toResponseDTO(cliente), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void manterConexao() throws IOException {
+        emitter.send(SseEmitter.event().comment("keep-alive"));
+    }
+
+    @Override
+    public void encerrar() {
+        emitter.complete();
+    }
+}
@@ -1,6 +1,7 @@
 package com.fiap.cliente.domain;
 
 import lombok.*;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
@@ -13,4 +14,7 @@ public class Cliente {
     private String cpf;
     private LocalDate dataNascimento;
     private Endereco endereco;
+    private Long versao;
+    private Instant atualizadoEm;
+    private Long sequenciaAlteracao;
 }
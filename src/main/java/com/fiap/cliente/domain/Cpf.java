@@ -0,0 +1,65 @@
+package com.fiap.cliente.domain;
+
+/**
+ * Forma canônica do CPF: {@code 123.456.789-09} e {@code 12345678909} são o mesmo cliente. O texto guardado e as chaves
+ * de cache usam só os dígitos; as consultas ao banco usam o valor numérico (coluna {@code cpf_numero}).
+ */
+public final class Cpf {
+
+    private static final int DIGITOS = 11;
+
+    private Cpf() {
+    }
+
+    // Descarta pontuação e espaços; devolve a própria string quando ela já só tem dígitos
+    public static String normalizar(String cpf) {
+        if (cpf == null || apenasDigitos(cpf)) {
+            return cpf;
+        }
+        StringBuilder digitos = new StringBuilder(DIGITOS);
+        for (int i = 0; i < cpf.length(); i++) {
+            char caractere = cpf.charAt(i);
+            if (caractere >= '0' && caractere <= '9') {
+                digitos.append(caractere);
+            }
+        }
+        return digitos.toString();
+    }
+
+    // Toda gravação passa por aqui: um CPF sem 11 dígitos ficaria sem cpf_numero e nunca mais seria encontrado
+    public static String validar(String cpf) {
+        if (numero(cpf) == null) {
+            throw new IllegalArgumentException("CPF inválido!");
+        }
+        return cpf;
+    }
+
+    // Null quando o texto não tem exatamente 11 dígitos: um CPF assim não existe na base
+    public static Long numero(String cpf) {
+        if (cpf == null) {
+            return null;
+        }
+        long numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char caractere = cpf.charAt(i);
+            if (caractere >= '0' && caractere <= '9') {
+                if (++digitos > DIGITOS) {
+                    return null;
+                }
+                numero = numero * 10 + (caractere - '0');
+            }
+        }
+        return digitos == DIGITOS ? numero : null;
+    }
+
+    private static boolean apenasDigitos(String cpf) {
+        for (int i = 0; i < cpf.length(); i++) {
+            char caractere = cpf.charAt(i);
+            if (caractere < '0' || caractere > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.cliente.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoCliente {
+    private Long id;
+    private TipoEventoCliente tipo;
+    private Long clienteId;
+    // Estado do cliente logo após a gravação
+    private Cliente cliente;
+    private Instant ocorridoEm;
+}
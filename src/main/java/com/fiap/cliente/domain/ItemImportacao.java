@@ -0,0 +1,18 @@
+package com.fiap.cliente.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportacao {
+    private int linha;
+    private String cpf;
+    private StatusImportacao status;
+    private Long id;
+    private String mensagem;
+}
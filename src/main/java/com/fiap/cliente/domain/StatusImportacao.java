@@ -0,0 +1,6 @@
+package com.fiap.cliente.domain;
+
+public enum StatusImportacao {
+    IMPORTADO,
+    REJEITADO
+}
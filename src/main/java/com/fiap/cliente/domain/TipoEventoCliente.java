@@ -0,0 +1,6 @@
+package com.fiap.cliente.domain;
+
+public enum TipoEventoCliente {
+    CRIADO,
+    ATUALIZADO
+}
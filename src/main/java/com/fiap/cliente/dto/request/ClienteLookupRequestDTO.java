@@ -0,0 +1,17 @@
+package com.fiap.cliente.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteLookupRequestDTO {
+
+    private Set<String> cpfs;
+}
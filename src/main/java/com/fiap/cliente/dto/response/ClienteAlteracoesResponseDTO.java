@@ -0,0 +1,19 @@
+package com.fiap.cliente.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteAlteracoesResponseDTO {
+
+    private List<ClienteResponseDTO> clientes;
+    private String proximoToken;
+    private boolean temMais;
+}
@@ -18,4 +18,5 @@ public class ClienteResponseDTO {
     private String cpf;
     private LocalDate dataNascimento;
     private EnderecoResponseDTO endereco;
+    private Long versao;
 }
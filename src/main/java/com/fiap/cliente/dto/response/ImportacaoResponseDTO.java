@@ -0,0 +1,20 @@
+package com.fiap.cliente.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoResponseDTO {
+
+    private int total;
+    private int importados;
+    private int rejeitados;
+    private List<ItemImportacaoResponseDTO> itens;
+}
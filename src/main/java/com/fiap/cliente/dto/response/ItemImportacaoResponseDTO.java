@@ -0,0 +1,19 @@
+package com.fiap.cliente.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportacaoResponseDTO {
+
+    private int linha;
+    private String cpf;
+    private String status;
+    private Long id;
+    private String mensagem;
+}
@@ -0,0 +1,9 @@
+package com.fiap.cliente.exception;
+
+// Recurso limitado da instância esgotado; vira 503 para o chamador tentar de novo mais tarde ou em outra instância
+public class CapacidadeEsgotadaException extends RuntimeException {
+
+    public CapacidadeEsgotadaException(String message) {
+        super(message);
+    }
+}
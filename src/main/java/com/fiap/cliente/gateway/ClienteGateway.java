@@ -2,15 +2,26 @@ package com.fiap.cliente.gateway;
 
 import com.fiap.cliente.domain.Cliente;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ClienteGateway {
     Cliente salvar(Cliente cliente);
+    List<Cliente> salvarTodos(List<Cliente> clientes);
     Cliente atualizar(Cliente cliente);
     Optional<Cliente> buscarPorCpf(String cpf);
+    Map<String, Cliente> buscarPorCpfs(Collection<String> cpfs);
+    Set<String> buscarCpfsExistentes(Collection<String> cpfs);
     Optional<Cliente> buscarPorId(Long id);
     List<Cliente> listarTodos();
+    List<Cliente> listarPagina(Long aposId, int limite);
+    List<Cliente> listarAlteracoes(Long aposSequencia, Instant ate, int limite);
+    void percorrerTodos(Consumer<Cliente> consumidor);
 }
 
 
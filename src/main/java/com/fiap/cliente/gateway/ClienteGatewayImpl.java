@@ -1,32 +1,201 @@
 package com.fiap.cliente.gateway;
 
+import com.fiap.cliente.config.cache.CacheConfig;
+import com.fiap.cliente.config.datasource.RoteamentoDataSource;
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.cache.InvalidacaoCacheClientes;
 import com.fiap.cliente.mapper.ClienteMapper;
 import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import com.fiap.cliente.gateway.indice.FiltroCpfClientes;
+import com.fiap.cliente.gateway.indice.IndiceCpfClientes;
 import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.gateway.sincronizacao.PrazoGravacaoAlteracoes;
+import com.fiap.cliente.gateway.stream.DifusorAlteracoesClientes;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClienteGatewayImpl implements ClienteGateway {
 
+    private static final String SQL_STATE_VIOLACAO_UNICIDADE = "23505";
+    // Alinhado a hibernate.jdbc.batch_size: cada lote vira um único batch de INSERTs
+    private static final int TAMANHO_LOTE = 500;
+    private static final int TAMANHO_LOTE_CONSULTA = 1000;
+    // O cache é indexado pelo CPF normalizado, o mesmo texto gravado na coluna cpf
+    private static final String CHAVE_CPF = "T(com.fiap.cliente.domain.Cpf).normalizar(#cpf)";
+    private static final String CHAVE_CPF_CLIENTE = "T(com.fiap.cliente.domain.Cpf).normalizar(#cliente.cpf)";
+    // Leitura de réplica pode estar atrasada e ficaria no cache até a próxima gravação do cliente
+    private static final String LEITURA_EM_REPLICA =
+            "T(com.fiap.cliente.config.datasource.RoteamentoDataSource).leituraEmReplica()";
+
     private final ClienteRepository repository;
     private final ClienteMapper mapper;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final IndiceCpfClientes indiceCpf;
+    private final FiltroCpfClientes filtroCpf;
+    private final InvalidacaoCacheClientes invalidacao;
+    private final DifusorAlteracoesClientes difusor;
+    private final PrazoGravacaoAlteracoes prazoGravacao;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CLIENTES_POR_CPF, key = CHAVE_CPF_CLIENTE, condition = "#cliente.cpf != null")
     public Cliente salvar(Cliente cliente) {
         ClienteEntity entity = mapper.toEntity(cliente);
-        return mapper.toDomain(repository.save(entity));
+        ClienteEntity salvo = traduzindoConflitoDeCpf(() -> repository.saveAndFlush(entity));
+        prazoGravacao.registrar(salvo.getSequenciaAlteracao());
+        indiceCpf.registrar(salvo.getCpfNumero(), salvo.getId());
+        filtroCpf.registrar(salvo.getCpfNumero());
+        invalidacao.publicarAposCommit(List.of(salvo.getId()), List.of(salvo.getCpf()), false, true);
+        Cliente cadastrado = mapper.toDomain(salvo);
+        difusor.publicarAposCommit(cadastrado, null);
+        return cadastrado;
+    }
+
+    @Override
+    @Transactional
+    public List<Cliente> salvarTodos(List<Cliente> clientes) {
+        Cache cache = cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF);
+        List<Cliente> salvos = new ArrayList<>(clientes.size());
+        List<Long> ids = new ArrayList<>(clientes.size());
+        List<String> cpfs = new ArrayList<>(clientes.size());
+        for (List<Cliente> lote : lotes(clientes, TAMANHO_LOTE)) {
+            List<ClienteEntity> entidades = lote.stream().map(mapper::toEntity).collect(Collectors.toList());
+            traduzindoConflitoDeCpf(() -> repository.saveAllAndFlush(entidades)).forEach(entity -> {
+                prazoGravacao.registrar(entity.getSequenciaAlteracao());
+                salvos.add(mapper.toDomain(entity));
+                indiceCpf.registrar(entity.getCpfNumero(), entity.getId());
+                filtroCpf.registrar(entity.getCpfNumero());
+                ids.add(entity.getId());
+                cpfs.add(entity.getCpf());
+                cache.evict(Cpf.normalizar(entity.getCpf()));
+            });
+            // Lotes já gravados não precisam continuar no contexto de persistência
+            entityManager.clear();
+        }
+        invalidacao.publicarAposCommit(ids, cpfs, false, false);
+        return salvos;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CLIENTES_POR_CPF, key = CHAVE_CPF, unless = LEITURA_EM_REPLICA)
     public Optional<Cliente> buscarPorCpf(String cpf) {
-        return repository.findByCpf(cpf).map(mapper::toDomain);
+        // Igualdade indexada sobre um bigint; texto que não é um CPF, ou CPF descartado pelo filtro, nem chega ao banco
+        Long numero = Cpf.numero(cpf);
+        if (numero == null || filtroCpf.certamenteAusente(numero)) {
+            return Optional.empty();
+        }
+        Optional<Cliente> cliente = buscarPorCpfNumero(numero);
+        if (cliente.isEmpty()) {
+            filtroCpf.registrarFalsosPositivos(1);
+        }
+        return cliente;
+    }
+
+    private Optional<Cliente> buscarPorCpfNumero(Long numero) {
+        if (!indiceCpf.disponivel()) {
+            return repository.findByCpfNumero(numero).map(mapper::toDomain);
+        }
+        // Com o índice, CPF inexistente é respondido sem banco e o existente vira leitura pela chave primária
+        OptionalLong id = indiceCpf.idPorCpf(numero);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        return repository.findById(id.getAsLong())
+                .filter(entity -> numero.equals(entity.getCpfNumero()))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Map<String, Cliente> buscarPorCpfs(Collection<String> cpfs) {
+        Cache cache = cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF);
+        boolean guardarEmCache = !RoteamentoDataSource.leituraEmReplica();
+        Map<String, Cliente> encontrados = new HashMap<>();
+        // CPF normalizado -> CPFs como foram enviados, que continuam sendo as chaves do resultado
+        Map<String, List<String>> pendentes = new LinkedHashMap<>();
+        for (String cpf : cpfs) {
+            String normalizado = Cpf.normalizar(cpf);
+            Cache.ValueWrapper emCache = cache.get(normalizado);
+            if (emCache == null) {
+                pendentes.computeIfAbsent(normalizado, chave -> new ArrayList<>(1)).add(cpf);
+            } else if (emCache.get() != null) {
+                encontrados.put(cpf, (Cliente) emCache.get());
+            }
+        }
+
+        for (List<String> lote : lotes(new ArrayList<>(pendentes.keySet()), TAMANHO_LOTE_CONSULTA)) {
+            List<Long> numeros = lote.stream().map(Cpf::numero).filter(this::podeExistir).collect(Collectors.toList());
+            Map<String, Cliente> doBanco = (numeros.isEmpty() ? List.<ClienteEntity>of() : repository.findByCpfNumeroIn(numeros))
+                    .stream()
+                    .map(mapper::toDomain)
+                    .collect(Collectors.toMap(cliente -> Cpf.normalizar(cliente.getCpf()), cliente -> cliente));
+            filtroCpf.registrarFalsosPositivos(numeros.size() - doBanco.size());
+            // Mesmo contrato do cache de buscarPorCpf: CPF inexistente fica guardado como null
+            lote.forEach(normalizado -> {
+                Cliente cliente = doBanco.get(normalizado);
+                if (guardarEmCache) {
+                    cache.put(normalizado, cliente);
+                }
+                if (cliente != null) {
+                    pendentes.get(normalizado).forEach(cpf -> encontrados.put(cpf, cliente));
+                }
+            });
+        }
+        return encontrados;
+    }
+
+    @Override
+    public Set<String> buscarCpfsExistentes(Collection<String> cpfs) {
+        Map<Long, String> cpfsPorNumero = new LinkedHashMap<>();
+        for (String cpf : cpfs) {
+            Long numero = Cpf.numero(cpf);
+            if (podeExistir(numero)) {
+                cpfsPorNumero.put(numero, cpf);
+            }
+        }
+        Set<String> existentes = new HashSet<>();
+        for (List<Long> lote : lotes(new ArrayList<>(cpfsPorNumero.keySet()), TAMANHO_LOTE_CONSULTA)) {
+            repository.findCpfNumeroByCpfNumeroIn(lote).forEach(numero -> existentes.add(cpfsPorNumero.get(numero)));
+        }
+        filtroCpf.registrarFalsosPositivos(cpfsPorNumero.size() - existentes.size());
+        return existentes;
     }
 
     @Override
@@ -40,8 +209,101 @@ public class ClienteGatewayImpl implements ClienteGateway {
     }
 
     @Override
+    public List<Cliente> listarPagina(Long aposId, int limite) {
+        long cursor = aposId == null ? 0L : aposId;
+        return repository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cliente> listarAlteracoes(Long aposSequencia, Instant ate, int limite) {
+        long apos = aposSequencia == null ? 0L : aposSequencia;
+        return repository.findAlteracoes(apos, SequenciaAlteracaoGenerator.limite(ate), Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Cliente> consumidor) {
+        // O hint de CACHE_MODE da consulta só vale enquanto o cursor é aberto; as linhas lidas depois usam o modo da
+        // sessão, que por isso também ignora o cache de segundo nível durante a exportação
+        Session sessao = entityManager.unwrap(Session.class);
+        CacheMode modoAnterior = sessao.getCacheMode();
+        sessao.setCacheMode(CacheMode.IGNORE);
+        // Cursor forward-only: cada linha é entregue e desanexada para o heap não crescer com a tabela
+        try (Stream<ClienteEntity> entidades = repository.streamAllOrderById()) {
+            entidades.forEach(entity -> {
+                consumidor.accept(mapper.toDomain(entity));
+                entityManager.detach(entity);
+            });
+        } finally {
+            sessao.setCacheMode(modoAnterior);
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLIENTES_POR_CPF, key = CHAVE_CPF_CLIENTE, condition = "#cliente.cpf != null")
     public Cliente atualizar(Cliente cliente) {
-        ClienteEntity entity = mapper.toEntity(cliente);
-        return mapper.toDomain(repository.save(entity));
+        ClienteEntity entity = repository.findById(cliente.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado!"));
+        // Versão esperada pelo chamador (If-Match); corridas depois desta leitura são barradas pelo @Version no UPDATE
+        if (cliente.getVersao() != null && !cliente.getVersao().equals(entity.getVersao())) {
+            throw new ObjectOptimisticLockingFailureException(ClienteEntity.class, entity.getId());
+        }
+        // Se o CPF mudou, a entrada do CPF anterior também precisa sair do cache
+        cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF).evict(Cpf.normalizar(entity.getCpf()));
+        Long cpfAnterior = entity.getCpfNumero();
+        String cpfTextoAnterior = entity.getCpf();
+        Long sequenciaAnterior = entity.getSequenciaAlteracao();
+        // Alterações aplicadas na entidade gerenciada: com @DynamicUpdate o flush só escreve as colunas que mudaram,
+        // e nenhum UPDATE é emitido se nada mudou
+        mapper.atualizarEntity(cliente, entity);
+        ClienteEntity salvo = traduzindoConflitoDeCpf(() -> repository.saveAndFlush(entity));
+        // Sem UPDATE (nada mudou) a sequência é a antiga e não conta para o prazo da transação
+        if (!Objects.equals(sequenciaAnterior, salvo.getSequenciaAlteracao())) {
+            prazoGravacao.registrar(salvo.getSequenciaAlteracao());
+        }
+        boolean cpfAlterado = !Objects.equals(cpfAnterior, salvo.getCpfNumero());
+        if (cpfAlterado) {
+            indiceCpf.registrar(salvo.getCpfNumero(), salvo.getId());
+            filtroCpf.registrar(salvo.getCpfNumero());
+            indiceCpf.removerAposCommit(cpfAnterior, salvo.getId());
+        }
+        invalidacao.publicarAposCommit(List.of(salvo.getId()),
+                Arrays.asList(Cpf.normalizar(cpfTextoAnterior), salvo.getCpf()), cpfAlterado, true);
+        Cliente atualizado = mapper.toDomain(salvo);
+        difusor.publicarAposCommit(atualizado, cpfAlterado ? Cpf.normalizar(cpfTextoAnterior) : null);
+        return atualizado;
+    }
+
+    // CPFs ausentes do filtro ou do índice certamente não existem e nem precisam ir para a consulta em lote
+    private boolean podeExistir(Long numero) {
+        return numero != null && !filtroCpf.certamenteAusente(numero)
+                && (!indiceCpf.disponivel() || indiceCpf.idPorCpf(numero).isPresent());
+    }
+
+    private static <T> List<List<T>> lotes(List<T> itens, int tamanho) {
+        List<List<T>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < itens.size(); inicio += tamanho) {
+            lotes.add(itens.subList(inicio, Math.min(inicio + tamanho, itens.size())));
+        }
+        return lotes;
+    }
+
+    // A escrita é enviada já aqui (flush) para a violação da unicidade do CPF ser traduzida dentro do gateway
+    private <T> T traduzindoConflitoDeCpf(Supplier<T> escrita) {
+        try {
+            return escrita.get();
+        } catch (DataIntegrityViolationException e) {
+            Throwable causa = NestedExceptionUtils.getMostSpecificCause(e);
+            if (causa instanceof SQLException sqlException
+                    && SQL_STATE_VIOLACAO_UNICIDADE.equals(sqlException.getSQLState())) {
+                throw new DuplicateKeyException("CPF já cadastrado", e);
+            }
+            throw e;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.fiap.cliente.gateway;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.domain.TipoEventoCliente;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventoClienteGateway {
+    // Só dentro da transação que gravou os clientes: evento e gravação são confirmados (ou desfeitos) juntos
+    void registrar(TipoEventoCliente tipo, List<Cliente> clientes);
+
+    List<EventoCliente> buscarPendentes(int limite);
+
+    void marcarPublicados(Collection<Long> ids);
+
+    // Eventos ainda pendentes nunca são removidos
+    int removerPublicadosAntes(Instant limite);
+}
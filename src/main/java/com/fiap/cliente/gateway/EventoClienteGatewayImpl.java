@@ -0,0 +1,86 @@
+package com.fiap.cliente.gateway;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.entity.OutboxEventoEntity;
+import com.fiap.cliente.gateway.repository.OutboxEventoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EventoClienteGatewayImpl implements EventoClienteGateway {
+
+    private final OutboxEventoRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(TipoEventoCliente tipo, List<Cliente> clientes) {
+        Instant agora = Instant.now();
+        repository.saveAll(clientes.stream()
+                .map(cliente -> OutboxEventoEntity.builder()
+                        .tipo(tipo)
+                        .clienteId(cliente.getId())
+                        .payload(paraJson(cliente))
+                        .ocorridoEm(agora)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    // Os eventos lidos ficam travados até o fim da transação de quem chamou (o relay)
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<EventoCliente> buscarPendentes(int limite) {
+        return repository.findByPublicadoEmIsNullOrderByIdAsc(Limit.of(limite)).stream()
+                .map(entity -> EventoCliente.builder()
+                        .id(entity.getId())
+                        .tipo(entity.getTipo())
+                        .clienteId(entity.getClienteId())
+                        .cliente(deJson(entity.getPayload()))
+                        .ocorridoEm(entity.getOcorridoEm())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void marcarPublicados(Collection<Long> ids) {
+        repository.marcarPublicados(ids, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public int removerPublicadosAntes(Instant limite) {
+        return repository.removerPublicadosAntes(limite);
+    }
+
+    private String paraJson(Cliente cliente) {
+        try {
+            return objectMapper.writeValueAsString(cliente);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o cliente ID: " + cliente.getId(), e);
+        }
+    }
+
+    private Cliente deJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, Cliente.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento de cliente ilegível no outbox", e);
+        }
+    }
+}
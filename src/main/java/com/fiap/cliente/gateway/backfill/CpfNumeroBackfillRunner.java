@@ -0,0 +1,110 @@
+package com.fiap.cliente.gateway.backfill;
+
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backfill único de {@code cpf_numero} para linhas gravadas antes de a coluna existir: normaliza o texto do CPF e
+ * preenche o bigint em lotes por faixa de id, cada lote na sua transação. Ativado na subida com
+ * {@code cliente.backfill.cpf-numero=true}; CPFs inválidos e os que colidem com outro cadastro depois de normalizados
+ * ficam de fora e são logados.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "cliente.backfill.cpf-numero", havingValue = "true")
+@RequiredArgsConstructor
+public class CpfNumeroBackfillRunner implements ApplicationRunner {
+
+    static final int TAMANHO_LOTE = 1000;
+
+    private static final String SELECT_PENDENTES =
+            "SELECT id, cpf FROM clientes WHERE cpf_numero IS NULL AND id > ? ORDER BY id LIMIT ?";
+    // A representação muda (CPF normalizado), então versão e data de alteração avançam para invalidar ETags, e a
+    // sequência de alteração avança para quem sincroniza por GET /clientes/changes receber o CPF normalizado
+    private static final String UPDATE_CPF = "UPDATE clientes SET cpf = ?, cpf_numero = ?, "
+            + "versao = COALESCE(versao, 0) + 1, atualizado_em = CURRENT_TIMESTAMP, sequencia_alteracao = ? "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executar();
+    }
+
+    public int executar() {
+        long ultimoId = 0;
+        int migrados = 0;
+        int ignorados = 0;
+        List<Linha> lote;
+        do {
+            lote = jdbcTemplate.query(SELECT_PENDENTES,
+                    (resultado, indice) -> new Linha(resultado.getLong("id"), resultado.getString("cpf")),
+                    ultimoId, TAMANHO_LOTE);
+            List<Linha> validas = new ArrayList<>(lote.size());
+            for (Linha linha : lote) {
+                ultimoId = linha.id();
+                if (Cpf.numero(linha.cpf()) == null) {
+                    log.warn("CPF inválido no cliente ID {}; linha não migrada", linha.id());
+                    ignorados++;
+                } else {
+                    validas.add(linha);
+                }
+            }
+            int migradosNoLote = migrar(validas);
+            migrados += migradosNoLote;
+            ignorados += validas.size() - migradosNoLote;
+        } while (lote.size() == TAMANHO_LOTE);
+        log.info("Backfill de cpf_numero concluído: {} linhas migradas, {} ignoradas", migrados, ignorados);
+        return migrados;
+    }
+
+    private int migrar(List<Linha> linhas) {
+        if (linhas.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_CPF, linhas, linhas.size(), (statement, linha) -> {
+                        statement.setString(1, Cpf.normalizar(linha.cpf()));
+                        statement.setLong(2, Cpf.numero(linha.cpf()));
+                        statement.setLong(3, SequenciaAlteracaoGenerator.proxima());
+                        statement.setLong(4, linha.id());
+                    }));
+            return linhas.size();
+        } catch (DataIntegrityViolationException e) {
+            // Algum CPF do lote colide com outro cadastro depois de normalizado: refaz linha a linha para isolar o conflito
+            int migrados = 0;
+            for (Linha linha : linhas) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(UPDATE_CPF,
+                            Cpf.normalizar(linha.cpf()), Cpf.numero(linha.cpf()), SequenciaAlteracaoGenerator.proxima(),
+                            linha.id()));
+                    migrados++;
+                } catch (DataIntegrityViolationException conflito) {
+                    log.warn("CPF do cliente ID {} colide com outro cadastro depois de normalizado; linha não migrada",
+                            linha.id());
+                }
+            }
+            return migrados;
+        }
+    }
+
+    private record Linha(long id, String cpf) {
+    }
+}
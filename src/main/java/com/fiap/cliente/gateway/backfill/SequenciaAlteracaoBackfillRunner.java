@@ -0,0 +1,74 @@
+package com.fiap.cliente.gateway.backfill;
+
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Backfill de {@code sequencia_alteracao} para linhas gravadas antes de a coluna existir. {@code GET /clientes/changes}
+ * filtra por {@code sequencia_alteracao > :apos}, que nunca casa com nulo: sem este passo a primeira sincronização
+ * completa deixaria de fora todo cliente antigo até alguém editá-lo. Cada linha recebe uma sequência do mesmo relógio do
+ * {@link SequenciaAlteracaoGenerator}, em lotes por faixa de id, cada lote na sua transação (curta, bem abaixo de
+ * {@code cliente.sincronizacao.duracao-maxima-gravacao}). Roda a cada subida, pois sem pendências é uma única consulta;
+ * desligado com {@code cliente.backfill.sequencia-alteracao=false}.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "cliente.backfill.sequencia-alteracao", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SequenciaAlteracaoBackfillRunner implements ApplicationRunner {
+
+    static final int TAMANHO_LOTE = 1000;
+
+    private static final String SELECT_PENDENTES =
+            "SELECT id FROM clientes WHERE sequencia_alteracao IS NULL AND id > ? ORDER BY id LIMIT ?";
+    // Uma gravação da aplicação entre a leitura e o UPDATE já atribuiu a sua sequência, que é mantida
+    private static final String UPDATE_SEQUENCIA =
+            "UPDATE clientes SET sequencia_alteracao = ? WHERE id = ? AND sequencia_alteracao IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executar();
+    }
+
+    public int executar() {
+        long ultimoId = 0;
+        int preenchidos = 0;
+        List<Long> lote;
+        do {
+            lote = jdbcTemplate.queryForList(SELECT_PENDENTES, Long.class, ultimoId, TAMANHO_LOTE);
+            if (lote.isEmpty()) {
+                break;
+            }
+            ultimoId = lote.get(lote.size() - 1);
+            List<Long> ids = lote;
+            int[][] atualizados = transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SEQUENCIA, ids, ids.size(), (statement, id) -> {
+                        statement.setLong(1, SequenciaAlteracaoGenerator.proxima());
+                        statement.setLong(2, id);
+                    }));
+            for (int[] contagens : atualizados) {
+                for (int contagem : contagens) {
+                    preenchidos += Math.max(contagem, 0);
+                }
+            }
+        } while (lote.size() == TAMANHO_LOTE);
+        if (preenchidos > 0) {
+            log.info("Backfill de sequencia_alteracao concluído: {} linhas preenchidas", preenchidos);
+        }
+        return preenchidos;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fiap.cliente.gateway.cache;
+
+import java.util.List;
+
+/**
+ * Clientes gravados por uma instância: as demais descartam dos seus caches locais as entradas desses ids e CPFs
+ * (normalizados). {@code cpfAlterado} sinaliza que um CPF trocou de dono, o que exige descartar também as resoluções
+ * CPF -> id do cache de segundo nível. {@code difundir} marca um cadastro ou atualização individual, que as demais
+ * instâncias também entregam aos assinantes do seu stream de alterações; importações em lote não entram no stream.
+ */
+public record EventoInvalidacao(String origem, List<Long> ids, List<String> cpfs, boolean cpfAlterado,
+                                boolean difundir) {
+}
@@ -0,0 +1,85 @@
+package com.fiap.cliente.gateway.cache;
+
+import com.fiap.cliente.config.cache.CacheConfig;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Propaga as gravações do {@code ClienteGatewayImpl} para as outras instâncias e aplica as recebidas delas: descarta os
+ * CPFs do cache {@code clientesPorCpf} e as entidades do cache de segundo nível do Hibernate. Publica só depois do commit,
+ * para nenhuma instância recarregar o valor antigo logo após a invalidação.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class InvalidacaoCacheClientes {
+
+    @Getter
+    private final String origem = UUID.randomUUID().toString();
+    private final TransporteInvalidacao transporte;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public InvalidacaoCacheClientes(TransporteInvalidacao transporte, CacheManager cacheManager,
+                                    EntityManagerFactory entityManagerFactory) {
+        this.transporte = transporte;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void assinar() {
+        transporte.assinar(this::aplicar);
+    }
+
+    public void publicarAposCommit(List<Long> ids, List<String> cpfs, boolean cpfAlterado, boolean difundir) {
+        EventoInvalidacao evento = new EventoInvalidacao(origem, ids,
+                cpfs.stream().filter(Objects::nonNull).distinct().toList(), cpfAlterado, difundir);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publicar(evento);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publicar(evento);
+            }
+        });
+    }
+
+    private void publicar(EventoInvalidacao evento) {
+        try {
+            transporte.publicar(evento);
+        } catch (RuntimeException e) {
+            // A gravação já foi confirmada; nas outras instâncias o valor antigo dura até a expiração do cache
+            log.warn("Falha ao publicar invalidação de {} clientes", evento.ids().size(), e);
+        }
+    }
+
+    void aplicar(EventoInvalidacao evento) {
+        if (origem.equals(evento.origem())) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF);
+        evento.cpfs().forEach(cache::evict);
+        org.hibernate.Cache segundoNivel = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        evento.ids().forEach(id -> segundoNivel.evictEntityData(ClienteEntity.class, id));
+        if (evento.cpfAlterado()) {
+            segundoNivel.evictNaturalIdData(ClienteEntity.class);
+        }
+        log.debug("Invalidação recebida de {}: {} clientes", evento.origem(), evento.ids().size());
+    }
+}
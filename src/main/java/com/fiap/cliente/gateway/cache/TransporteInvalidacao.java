@@ -0,0 +1,16 @@
+package com.fiap.cliente.gateway.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidação de cache entre instâncias. A implementação padrão ({@link TransporteInvalidacaoLocal}) entrega
+ * dentro da própria JVM; em produção com várias réplicas, registrar um bean apoiado no broker ou cache em cluster
+ * disponível (tópico Kafka, Redis pub/sub etc.). A entrega pode ser assíncrona e não precisa ser garantida: a expiração
+ * dos caches limita o tempo de um valor antigo.
+ */
+public interface TransporteInvalidacao {
+
+    void publicar(EventoInvalidacao evento);
+
+    void assinar(Consumer<EventoInvalidacao> ouvinte);
+}
@@ -0,0 +1,21 @@
+package com.fiap.cliente.gateway.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Entrega síncrona para todos os assinantes da mesma JVM; nos testes, cada assinante faz o papel de uma instância
+public class TransporteInvalidacaoLocal implements TransporteInvalidacao {
+
+    private final List<Consumer<EventoInvalidacao>> ouvintes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publicar(EventoInvalidacao evento) {
+        ouvintes.forEach(ouvinte -> ouvinte.accept(evento));
+    }
+
+    @Override
+    public void assinar(Consumer<EventoInvalidacao> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+}
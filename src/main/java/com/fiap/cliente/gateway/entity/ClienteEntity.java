@@ -5,18 +5,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "clientes", uniqueConstraints = @UniqueConstraint(columnNames = "cpf"))
+@DynamicUpdate
+// Cache de segundo nível: por id e pela natural id (cpf_numero -> id); regiões configuradas em application.conf
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ClienteEntity.REGIAO_CACHE)
+@NaturalIdCache(region = ClienteEntity.REGIAO_CACHE_CPF_NUMERO)
+@Table(name = "clientes", uniqueConstraints = @UniqueConstraint(columnNames = "cpf"),
+        indexes = {
+                @Index(name = "idx_clientes_cpf_numero", columnList = "cpf_numero", unique = true),
+                @Index(name = "idx_clientes_sequencia_alteracao", columnList = "sequencia_alteracao")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ClienteEntity {
+    public static final String REGIAO_CACHE = "clientes";
+    public static final String REGIAO_CACHE_CPF_NUMERO = "clientes-cpf-numero";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
@@ -24,8 +43,25 @@ public class ClienteEntity {
     @Column(nullable = false, unique = true)
     private String cpf;
 
+    // Chave de busca: CPF normalizado como bigint (ver Cpf.numero); nula só em linhas ainda não migradas pelo backfill
+    @NaturalId(mutable = true)
+    @Column(name = "cpf_numero")
+    private Long cpfNumero;
+
     private LocalDate dataNascimento;
 
     @Embedded
     private EnderecoEmbeddable endereco;
+
+    // Controle otimista: todo UPDATE confere e incrementa a versão lida
+    @Version
+    private Long versao;
+
+    // Preenchido pelo Hibernate no INSERT e em todo UPDATE; vira o Last-Modified das leituras
+    @UpdateTimestamp
+    private Instant atualizadoEm;
+
+    // Avança em todo INSERT e UPDATE; marca d'água de GET /clientes/changes
+    @SequenciaAlteracao
+    private Long sequenciaAlteracao;
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.fiap.cliente.gateway.entity;
+
+import com.fiap.cliente.domain.TipoEventoCliente;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_eventos",
+        indexes = @Index(name = "idx_outbox_eventos_pendentes", columnList = "publicado_em, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventoEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_eventos_seq")
+    @SequenceGenerator(name = "outbox_eventos_seq", sequenceName = "outbox_eventos_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoEventoCliente tipo;
+
+    @Column(nullable = false)
+    private Long clienteId;
+
+    // Cliente em JSON, como estava no commit da gravação
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant ocorridoEm;
+
+    // Nulo até o relay entregar o evento ao destino configurado
+    private Instant publicadoEm;
+}
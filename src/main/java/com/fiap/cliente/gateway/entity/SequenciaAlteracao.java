@@ -0,0 +1,18 @@
+package com.fiap.cliente.gateway.entity;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Número de alteração atribuído pelo Hibernate em todo INSERT e UPDATE da entidade (ver
+ * {@link SequenciaAlteracaoGenerator}). Serve de marca d'água para a sincronização incremental.
+ */
+@ValueGenerationType(generatedBy = SequenciaAlteracaoGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SequenciaAlteracao {
+}
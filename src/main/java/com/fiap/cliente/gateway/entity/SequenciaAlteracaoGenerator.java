@@ -0,0 +1,42 @@
+package com.fiap.cliente.gateway.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relógio em microssegundos desde a época, estritamente crescente na instância. Gerado em memória (e não por uma
+ * sequence do banco) para os INSERTs continuarem em lote: valor calculado na execução do comando desliga o batching
+ * do Hibernate. Entre instâncias a ordem segue o relógio do sistema; a leitura compensa a defasagem com uma janela de
+ * segurança (ver {@link #limite(Instant)}).
+ */
+public class SequenciaAlteracaoGenerator implements BeforeExecutionGenerator {
+
+    private static final AtomicLong ULTIMA = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return proxima();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+
+    public static long proxima() {
+        long agora = limite(Instant.now());
+        return ULTIMA.updateAndGet(anterior -> Math.max(anterior + 1, agora));
+    }
+
+    // Instante na escala da sequência (microssegundos desde a época)
+    public static long limite(Instant instante) {
+        return TimeUnit.SECONDS.toMicros(instante.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(instante.getNano());
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.cliente.gateway.indice;
+
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacaoLocal;
+
+/**
+ * O índice e o filtro de CPF só enxergam as gravações desta instância: um CPF cadastrado por outra seria respondido como
+ * inexistente até a próxima subida. O transporte de invalidação não serve para alimentá-los, porque não garante entrega
+ * e um evento perdido deixaria o erro para sempre. Por isso a subida falha quando a configuração indica mais de uma
+ * instância: um transporte de invalidação entre instâncias ou réplicas de leitura configuradas.
+ */
+final class EscritorUnico {
+
+    private EscritorUnico() {
+    }
+
+    static void exigir(String propriedade, TransporteInvalidacao transporte, String primeiraReplica) {
+        if (!(transporte instanceof TransporteInvalidacaoLocal)) {
+            throw new IllegalStateException(propriedade + "=true exige uma única instância escrevendo em clientes, mas "
+                    + "há um transporte de invalidação entre instâncias (" + transporte.getClass().getSimpleName() + ")");
+        }
+        if (primeiraReplica != null && !primeiraReplica.isBlank()) {
+            throw new IllegalStateException(propriedade + "=true exige uma única instância escrevendo em clientes, mas "
+                    + "cliente.datasource.replicas está configurado");
+        }
+    }
+}
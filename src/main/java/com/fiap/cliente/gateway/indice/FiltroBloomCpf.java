@@ -0,0 +1,84 @@
+package com.fiap.cliente.gateway.indice;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de CPFs numéricos: responde "certamente ausente" ou "talvez presente" com uma fração do espaço de um
+ * índice exato (~1,2 MB por milhão de CPFs a 1% de falsos positivos). Inserções são lock-free (CAS por palavra) e não
+ * há remoção, então CPFs abandonados só aumentam a taxa de falsos positivos.
+ */
+public final class FiltroBloomCpf {
+
+    private final AtomicLongArray palavras;
+    private final long totalBits;
+    private final int funcoes;
+    private final AtomicLong bitsLigados = new AtomicLong();
+
+    public FiltroBloomCpf(long entradasEsperadas, double taxaFalsosPositivos) {
+        if (entradasEsperadas <= 0 || taxaFalsosPositivos <= 0 || taxaFalsosPositivos >= 1) {
+            throw new IllegalArgumentException("Capacidade e taxa de falsos positivos do filtro de CPF inválidas!");
+        }
+        // m = -n ln(p) / ln(2)², arredondado para palavras inteiras; k = (m / n) ln(2)
+        double bitsIdeais = -entradasEsperadas * Math.log(taxaFalsosPositivos) / (Math.log(2) * Math.log(2));
+        int quantidadePalavras = Math.toIntExact(Math.max(1, (long) Math.ceil(bitsIdeais / Long.SIZE)));
+        palavras = new AtomicLongArray(quantidadePalavras);
+        totalBits = (long) quantidadePalavras * Long.SIZE;
+        funcoes = Math.max(1, (int) Math.round((double) totalBits / entradasEsperadas * Math.log(2)));
+    }
+
+    public void adicionar(long cpf) {
+        long hash = misturar(cpf);
+        long passo = misturar(hash) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(hash + i * passo, totalBits);
+            int palavra = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual;
+            do {
+                atual = palavras.get(palavra);
+                if ((atual & mascara) != 0) {
+                    break;
+                }
+            } while (!palavras.compareAndSet(palavra, atual, atual | mascara));
+            if ((atual & mascara) == 0) {
+                bitsLigados.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean talvezContenha(long cpf) {
+        long hash = misturar(cpf);
+        long passo = misturar(hash) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(hash + i * passo, totalBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Probabilidade de falso positivo com a ocupação atual: (bits ligados / total de bits) ^ k
+    public double taxaFalsosPositivosEstimada() {
+        return Math.pow((double) bitsLigados.get() / totalBits, funcoes);
+    }
+
+    public long bytes() {
+        return totalBits / Byte.SIZE;
+    }
+
+    int funcoes() {
+        return funcoes;
+    }
+
+    // Finalizador do MurmurHash3: CPFs sequenciais viram bits bem espalhados
+    private static long misturar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xFF51AFD7ED558CCDL;
+        valor ^= valor >>> 33;
+        valor *= 0xC4CEB9FE1A85EC53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+}
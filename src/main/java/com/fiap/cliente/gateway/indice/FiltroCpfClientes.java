@@ -0,0 +1,106 @@
+package com.fiap.cliente.gateway.indice;
+
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.gateway.repository.CpfIdProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom dos CPFs cadastrados ({@code cliente.filtro-cpf.habilitado=true}), consultado pelo
+ * {@code ClienteGatewayImpl} antes de ir ao banco: um CPF que o filtro não conhece certamente não existe. Preenchido
+ * depois da subida e a cada gravação; como o índice de CPF, só é correto se esta instância for a única a escrever
+ * ({@link EscritorUnico}).
+ * Métricas: {@code cliente.filtro.cpf} por {@code resultado} (ausente / falso_positivo) e a taxa estimada pela ocupação.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@EnableConfigurationProperties(FiltroCpfProperties.class)
+public class FiltroCpfClientes {
+
+    static final String METRICA = "cliente.filtro.cpf";
+
+    private final ClienteRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final FiltroCpfProperties properties;
+    private final FiltroBloomCpf filtro;
+    private final Counter ausentes;
+    private final Counter falsosPositivos;
+    private volatile boolean carregado;
+
+    public FiltroCpfClientes(ClienteRepository repository, TransactionTemplate transactionTemplate,
+                             FiltroCpfProperties properties, MeterRegistry registry, TransporteInvalidacao transporte,
+                             @Value("${cliente.datasource.replicas[0].url:}") String primeiraReplica) {
+        if (properties.isHabilitado()) {
+            EscritorUnico.exigir("cliente.filtro-cpf.habilitado", transporte, primeiraReplica);
+        }
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        // Criado já na construção para não perder gravações feitas antes da carga
+        this.filtro = properties.isHabilitado()
+                ? new FiltroBloomCpf(properties.getCapacidade(), properties.getTaxaFalsosPositivos())
+                : null;
+        this.ausentes = Counter.builder(METRICA).tag("resultado", "ausente").register(registry);
+        this.falsosPositivos = Counter.builder(METRICA).tag("resultado", "falso_positivo").register(registry);
+        if (filtro != null) {
+            Gauge.builder(METRICA + ".fpp.estimada", filtro, FiltroBloomCpf::taxaFalsosPositivosEstimada)
+                    .register(registry);
+        }
+    }
+
+    // Antes da carga (ou desligado) nada é descartado: a resposta vem do banco
+    public boolean certamenteAusente(long cpfNumero) {
+        if (!carregado || filtro.talvezContenha(cpfNumero)) {
+            return false;
+        }
+        ausentes.increment();
+        return true;
+    }
+
+    // CPFs que passaram pelo filtro e não existiam; taxa real = falso_positivo / (falso_positivo + ausente)
+    public void registrarFalsosPositivos(int quantidade) {
+        if (carregado && quantidade > 0) {
+            falsosPositivos.increment(quantidade);
+        }
+    }
+
+    public void registrar(Long cpfNumero) {
+        if (filtro != null && cpfNumero != null) {
+            filtro.adicionar(cpfNumero);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (filtro == null) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        long total = repository.count();
+        if (total > properties.getCapacidade()) {
+            log.warn("Filtro de CPF dimensionado para {} CPFs, mas a tabela já tem {}: a taxa de falsos positivos "
+                    + "ficará acima de {}", properties.getCapacidade(), total, properties.getTaxaFalsosPositivos());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<CpfIdProjection> entradas = repository.streamCpfIds()) {
+                entradas.forEach(entrada -> filtro.adicionar(entrada.cpfNumero()));
+            }
+        });
+        carregado = true;
+        log.info("Filtro de CPF carregado: {} clientes, {} KB, {} funções de hash, em {} ms", total,
+                filtro.bytes() / 1024, filtro.funcoes(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
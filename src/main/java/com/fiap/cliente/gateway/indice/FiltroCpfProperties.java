@@ -0,0 +1,18 @@
+package com.fiap.cliente.gateway.indice;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Filtro de Bloom de CPFs cadastrados: dimensionado uma vez na subida para {@code capacidade} CPFs com a taxa de falsos
+ * positivos desejada. Passar da capacidade não quebra nada, só aumenta a taxa real (métrica
+ * {@code cliente.filtro.cpf.fpp.estimada}).
+ */
+@Data
+@ConfigurationProperties(prefix = "cliente.filtro-cpf")
+public class FiltroCpfProperties {
+
+    private boolean habilitado = false;
+    private long capacidade = 1_000_000;
+    private double taxaFalsosPositivos = 0.01;
+}
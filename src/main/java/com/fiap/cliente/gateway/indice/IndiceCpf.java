@@ -0,0 +1,202 @@
+package com.fiap.cliente.gateway.indice;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Tabela hash de endereçamento aberto (sondagem linear) de CPF numérico para id, sem nenhum objeto por entrada: pares
+ * {@code [cpf, id]} intercalados num único {@code long[]}, com carga máxima de 75% (~21 MB para um milhão de clientes).
+ * Leituras são otimistas ({@link StampedLock}) e só caem no lock de leitura se uma escrita concorrer com elas.
+ */
+public final class IndiceCpf {
+
+    public static final long AUSENTE = -1;
+
+    // CPF nunca é negativo, então -1 marca um slot vazio
+    private static final long VAZIO = -1;
+    private static final double CARGA_MAXIMA = 0.75;
+    private static final int CAPACIDADE_MINIMA = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] tabela;
+    private int tamanho;
+
+    public IndiceCpf() {
+        this(0);
+    }
+
+    public IndiceCpf(int entradasEsperadas) {
+        tabela = novaTabela(capacidadePara(entradasEsperadas));
+    }
+
+    public long buscar(long cpf) {
+        long stamp = lock.tryOptimisticRead();
+        long id = procurar(tabela, cpf);
+        if (lock.validate(stamp)) {
+            return id;
+        }
+        stamp = lock.readLock();
+        try {
+            return procurar(tabela, cpf);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void registrar(long cpf, long id) {
+        long stamp = lock.writeLock();
+        try {
+            if (inserir(tabela, cpf, id) && ++tamanho > capacidade(tabela) * CARGA_MAXIMA) {
+                redimensionar(capacidade(tabela) * 2);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Só remove se o CPF ainda apontar para este id: outro cliente pode ter assumido o CPF nesse meio tempo
+    public void remover(long cpf, long id) {
+        long stamp = lock.writeLock();
+        try {
+            int capacidade = capacidade(tabela);
+            int slot = slot(cpf, capacidade);
+            for (int sondagens = 0; sondagens < capacidade; sondagens++) {
+                long chave = tabela[2 * slot];
+                if (chave == VAZIO) {
+                    return;
+                }
+                if (chave == cpf) {
+                    if (tabela[2 * slot + 1] == id) {
+                        liberar(slot);
+                        tamanho--;
+                    }
+                    return;
+                }
+                slot = proximo(slot, capacidade);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Pré-dimensiona antes de uma carga em massa, para não redimensionar várias vezes no caminho
+    public void reservar(int entradasEsperadas) {
+        long stamp = lock.writeLock();
+        try {
+            int capacidade = capacidadePara(entradasEsperadas);
+            if (capacidade > capacidade(tabela)) {
+                redimensionar(capacidade);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int tamanho() {
+        long stamp = lock.readLock();
+        try {
+            return tamanho;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long bytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) tabela.length * Long.BYTES;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Recebe a tabela como parâmetro: numa leitura otimista ela pode ser trocada por um redimensionamento no meio
+    private static long procurar(long[] tabela, long cpf) {
+        int capacidade = capacidade(tabela);
+        int slot = slot(cpf, capacidade);
+        for (int sondagens = 0; sondagens < capacidade; sondagens++) {
+            long chave = tabela[2 * slot];
+            if (chave == cpf) {
+                return tabela[2 * slot + 1];
+            }
+            if (chave == VAZIO) {
+                return AUSENTE;
+            }
+            slot = proximo(slot, capacidade);
+        }
+        return AUSENTE;
+    }
+
+    private static boolean inserir(long[] tabela, long cpf, long id) {
+        int capacidade = capacidade(tabela);
+        int slot = slot(cpf, capacidade);
+        while (tabela[2 * slot] != VAZIO && tabela[2 * slot] != cpf) {
+            slot = proximo(slot, capacidade);
+        }
+        boolean novo = tabela[2 * slot] == VAZIO;
+        tabela[2 * slot] = cpf;
+        tabela[2 * slot + 1] = id;
+        return novo;
+    }
+
+    // Remoção com deslocamento para trás: sem lápides, as sondagens continuam terminando no primeiro slot vazio
+    private void liberar(int slot) {
+        int capacidade = capacidade(tabela);
+        int vazio = slot;
+        int atual = slot;
+        while (true) {
+            atual = proximo(atual, capacidade);
+            long chave = tabela[2 * atual];
+            if (chave == VAZIO) {
+                break;
+            }
+            int ideal = slot(chave, capacidade);
+            boolean podeMover = vazio <= atual
+                    ? ideal <= vazio || ideal > atual
+                    : ideal <= vazio && ideal > atual;
+            if (podeMover) {
+                tabela[2 * vazio] = chave;
+                tabela[2 * vazio + 1] = tabela[2 * atual + 1];
+                vazio = atual;
+            }
+        }
+        tabela[2 * vazio] = VAZIO;
+        tabela[2 * vazio + 1] = 0;
+    }
+
+    private void redimensionar(int novaCapacidade) {
+        long[] antiga = tabela;
+        long[] nova = novaTabela(novaCapacidade);
+        for (int i = 0; i < antiga.length; i += 2) {
+            if (antiga[i] != VAZIO) {
+                inserir(nova, antiga[i], antiga[i + 1]);
+            }
+        }
+        tabela = nova;
+    }
+
+    private static int capacidadePara(int entradas) {
+        return Math.max(CAPACIDADE_MINIMA, (int) Math.ceil(entradas / CARGA_MAXIMA) + 1);
+    }
+
+    private static long[] novaTabela(int capacidade) {
+        long[] tabela = new long[2 * capacidade];
+        for (int i = 0; i < tabela.length; i += 2) {
+            tabela[i] = VAZIO;
+        }
+        return tabela;
+    }
+
+    private static int capacidade(long[] tabela) {
+        return tabela.length >>> 1;
+    }
+
+    // Mistura os bits do CPF e reduz ao intervalo [0, capacidade) por multiplicação, sem exigir potência de 2
+    private static int slot(long cpf, int capacidade) {
+        long hash = cpf * 0x9E3779B97F4A7C15L;
+        return (int) (((hash >>> 32) * capacidade) >>> 32);
+    }
+
+    private static int proximo(int slot, int capacidade) {
+        return slot + 1 == capacidade ? 0 : slot + 1;
+    }
+}
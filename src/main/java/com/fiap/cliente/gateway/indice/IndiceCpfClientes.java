@@ -0,0 +1,97 @@
+package com.fiap.cliente.gateway.indice;
+
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.gateway.repository.CpfIdProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória de CPF para id dos clientes ({@code cliente.indice-cpf.habilitado=true}). Carregado depois da subida
+ * e mantido pelas escritas do {@code ClienteGatewayImpl}: CPFs novos entram antes do commit e CPFs abandonados só saem
+ * depois dele, então um CPF gravado nunca some do índice. Entradas sobrando são inofensivas, pois quem consulta confere o
+ * CPF da linha lida. Só é correto se esta instância for a única a escrever na tabela; ver {@link EscritorUnico}.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class IndiceCpfClientes {
+
+    private final ClienteRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final IndiceCpf indice = new IndiceCpf();
+    private volatile boolean carregado;
+
+    public IndiceCpfClientes(ClienteRepository repository, TransactionTemplate transactionTemplate,
+                             TransporteInvalidacao transporte,
+                             @Value("${cliente.indice-cpf.habilitado:false}") boolean habilitado,
+                             @Value("${cliente.datasource.replicas[0].url:}") String primeiraReplica) {
+        if (habilitado) {
+            EscritorUnico.exigir("cliente.indice-cpf.habilitado", transporte, primeiraReplica);
+        }
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.habilitado = habilitado;
+    }
+
+    // Até a carga terminar as buscas seguem pelo banco; escritas feitas durante a carga já entram no índice
+    public boolean disponivel() {
+        return carregado;
+    }
+
+    public OptionalLong idPorCpf(long cpfNumero) {
+        long id = indice.buscar(cpfNumero);
+        return id == IndiceCpf.AUSENTE ? OptionalLong.empty() : OptionalLong.of(id);
+    }
+
+    public void registrar(Long cpfNumero, Long id) {
+        if (habilitado && cpfNumero != null && id != null) {
+            indice.registrar(cpfNumero, id);
+        }
+    }
+
+    // Se a transação for desfeita o CPF anterior continua valendo, por isso a remoção espera o commit
+    public void removerAposCommit(Long cpfNumero, Long id) {
+        if (!habilitado || cpfNumero == null || id == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indice.remover(cpfNumero, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indice.remover(cpfNumero, id);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (!habilitado) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        indice.reservar(Math.toIntExact(repository.count()));
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<CpfIdProjection> entradas = repository.streamCpfIds()) {
+                entradas.forEach(entrada -> indice.registrar(entrada.cpfNumero(), entrada.id()));
+            }
+        });
+        carregado = true;
+        log.info("Índice de CPF carregado: {} clientes, {} KB, em {} ms", indice.tamanho(), indice.bytes() / 1024,
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
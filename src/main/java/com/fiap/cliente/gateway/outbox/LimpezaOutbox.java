@@ -0,0 +1,40 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remove do outbox os eventos publicados há mais que {@code cliente.outbox.retencao}, para a tabela não crescer sem
+ * limite. Pendentes ficam até o relay entregá-los, por mais antigos que sejam.
+ */
+@Slf4j
+public class LimpezaOutbox {
+
+    private final EventoClienteGateway eventoGateway;
+    private final Duration retencao;
+
+    public LimpezaOutbox(EventoClienteGateway eventoGateway, Duration retencao) {
+        this.eventoGateway = eventoGateway;
+        this.retencao = retencao;
+    }
+
+    public int removerPublicados() {
+        int removidos = eventoGateway.removerPublicadosAntes(Instant.now().minus(retencao));
+        if (removidos > 0) {
+            log.debug("{} eventos publicados removidos do outbox", removidos);
+        }
+        return removidos;
+    }
+
+    // Chamado pelo agendador: uma falha não pode interromper as execuções seguintes
+    public void executar() {
+        try {
+            removerPublicados();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao remover eventos publicados do outbox; nova tentativa no próximo ciclo", e);
+        }
+    }
+}
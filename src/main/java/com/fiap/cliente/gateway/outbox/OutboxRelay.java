@@ -0,0 +1,65 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entrega os eventos pendentes do outbox ao {@link PublicadorEventos} em lotes, em ordem de id. Cada lote é lido com
+ * trava, publicado e marcado numa mesma transação; se a publicação falhar a transação é desfeita e o lote volta a ficar
+ * pendente. A ordem de id não é a ordem de commit entre instâncias, e relays de instâncias diferentes publicam em
+ * paralelo: a ordem dos eventos de um cliente vem da {@code versao} no payload.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final EventoClienteGateway eventoGateway;
+    private final PublicadorEventos publicador;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+
+    public OutboxRelay(EventoClienteGateway eventoGateway, PublicadorEventos publicador,
+                       TransactionTemplate transactionTemplate, int tamanhoLote) {
+        this.eventoGateway = eventoGateway;
+        this.publicador = publicador;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    // Publica até esvaziar o outbox e devolve quantos eventos saíram
+    public int publicarPendentes() {
+        int total = 0;
+        int publicados;
+        do {
+            publicados = transactionTemplate.execute(status -> publicarLote());
+            total += publicados;
+        } while (publicados == tamanhoLote);
+        if (total > 0) {
+            log.debug("{} eventos de clientes publicados", total);
+        }
+        return total;
+    }
+
+    // Chamado pelo agendador: uma falha não pode interromper as execuções seguintes
+    public void executar() {
+        try {
+            publicarPendentes();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao publicar eventos do outbox; nova tentativa no próximo ciclo", e);
+        }
+    }
+
+    private int publicarLote() {
+        List<EventoCliente> lote = eventoGateway.buscarPendentes(tamanhoLote);
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        publicador.publicar(lote);
+        eventoGateway.marcarPublicados(lote.stream().map(EventoCliente::getId).collect(Collectors.toList()));
+        return lote.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.domain.EventoCliente;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox. Só deve retornar depois que o lote inteiro foi aceito pelo destino: em seguida os
+ * eventos são marcados como publicados. Uma falha faz o lote ser reenviado no próximo ciclo, então a entrega é
+ * "ao menos uma vez" e os consumidores descartam repetidos pelo id do evento.
+ */
+public interface PublicadorEventos {
+
+    void publicar(List<EventoCliente> eventos);
+}
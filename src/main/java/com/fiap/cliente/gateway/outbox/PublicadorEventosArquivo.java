@@ -0,0 +1,38 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.domain.EventoCliente;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Acrescenta cada lote a um arquivo NDJSON (um evento por linha), para desenvolvimento local sem broker
+public class PublicadorEventosArquivo implements PublicadorEventos {
+
+    private final Path arquivo;
+    private final ObjectMapper objectMapper;
+
+    public PublicadorEventosArquivo(Path arquivo, ObjectMapper objectMapper) {
+        this.arquivo = arquivo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoCliente> eventos) {
+        try (BufferedWriter writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (EventoCliente evento : eventos) {
+                writer.write(objectMapper.writeValueAsString(evento));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar eventos em " + arquivo, e);
+        }
+    }
+}
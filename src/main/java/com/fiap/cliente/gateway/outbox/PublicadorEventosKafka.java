@@ -0,0 +1,42 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.domain.EventoCliente;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Chave = id do cliente: eventos do mesmo cliente caem na mesma partição, mas não necessariamente na ordem das gravações.
+// Cada instância reserva ids do outbox em blocos e os relays de instâncias diferentes publicam lotes em paralelo, então
+// um evento posterior pode sair antes; o consumidor ordena pela versao do cliente no payload e descarta as mais antigas
+public class PublicadorEventosKafka implements PublicadorEventos {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topico;
+    private final ObjectMapper objectMapper;
+
+    public PublicadorEventosKafka(KafkaTemplate<String, String> kafkaTemplate, String topico, ObjectMapper objectMapper) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topico = topico;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publicar(List<EventoCliente> eventos) {
+        CompletableFuture<?>[] envios = eventos.stream()
+                .map(evento -> kafkaTemplate.send(topico, String.valueOf(evento.getClienteId()), paraJson(evento)))
+                .toArray(CompletableFuture[]::new);
+        // O lote só conta como publicado depois do ack de todos os envios
+        CompletableFuture.allOf(envios).join();
+    }
+
+    private String paraJson(EventoCliente evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento ID: " + evento.getId(), e);
+        }
+    }
+}
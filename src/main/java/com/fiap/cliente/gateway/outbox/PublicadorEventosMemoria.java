@@ -0,0 +1,21 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.domain.EventoCliente;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Para testes e desenvolvimento local: guarda os eventos publicados na própria JVM
+public class PublicadorEventosMemoria implements PublicadorEventos {
+
+    private final List<EventoCliente> publicados = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publicar(List<EventoCliente> eventos) {
+        publicados.addAll(eventos);
+    }
+
+    public List<EventoCliente> getPublicados() {
+        return List.copyOf(publicados);
+    }
+}
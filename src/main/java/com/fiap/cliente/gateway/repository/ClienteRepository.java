@@ -1,10 +1,44 @@
 package com.fiap.cliente.gateway.repository;
 
 import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
-public interface ClienteRepository extends JpaRepository<ClienteEntity, Long> {
-    Optional<ClienteEntity> findByCpf(String cpf);
-}
\ No newline at end of file
+public interface ClienteRepository extends JpaRepository<ClienteEntity, Long>, ClienteRepositoryCustom {
+    List<ClienteEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select c from ClienteEntity c where c.sequenciaAlteracao > :apos and c.sequenciaAlteracao <= :ate "
+            + "order by c.sequenciaAlteracao")
+    List<ClienteEntity> findAlteracoes(long apos, long ate, Limit limit);
+
+    List<ClienteEntity> findByCpfNumeroIn(Collection<Long> cpfsNumero);
+
+    @Query("select c.cpfNumero from ClienteEntity c where c.cpfNumero in :cpfsNumero")
+    List<Long> findCpfNumeroByCpfNumeroIn(Collection<Long> cpfsNumero);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // A exportação percorre a tabela inteira e não deve despejá-la no cache de segundo nível; o Hibernate só
+            // aplica este modo na abertura do cursor, por isso percorrerTodos também o fixa na sessão
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from ClienteEntity c order by c.id")
+    Stream<ClienteEntity> streamAllOrderById();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.fiap.cliente.gateway.repository.CpfIdProjection(c.cpfNumero, c.id) "
+            + "from ClienteEntity c where c.cpfNumero is not null")
+    Stream<CpfIdProjection> streamCpfIds();
+}
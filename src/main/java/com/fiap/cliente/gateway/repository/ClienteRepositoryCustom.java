@@ -0,0 +1,9 @@
+package com.fiap.cliente.gateway.repository;
+
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+
+import java.util.Optional;
+
+public interface ClienteRepositoryCustom {
+    Optional<ClienteEntity> findByCpfNumero(Long cpfNumero);
+}
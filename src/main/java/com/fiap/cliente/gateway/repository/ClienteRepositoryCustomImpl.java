@@ -0,0 +1,32 @@
+package com.fiap.cliente.gateway.repository;
+
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class ClienteRepositoryCustomImpl implements ClienteRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    // Busca pela natural id: com o cache de segundo nível, CPFs já vistos são resolvidos sem ir ao banco
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClienteEntity> findByCpfNumero(Long cpfNumero) {
+        Optional<ClienteEntity> entity = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ClienteEntity.class)
+                .loadOptional(cpfNumero);
+        if (entity.isEmpty() || cpfNumero.equals(entity.get().getCpfNumero())) {
+            return entity;
+        }
+        // Resolução antiga no cache (o CPF mudou em outra instância): a consulta direta decide
+        return entityManager.createQuery("select c from ClienteEntity c where c.cpfNumero = :cpfNumero", ClienteEntity.class)
+                .setParameter("cpfNumero", cpfNumero)
+                .getResultStream()
+                .findFirst();
+    }
+}
@@ -0,0 +1,4 @@
+package com.fiap.cliente.gateway.repository;
+
+public record CpfIdProjection(Long cpfNumero, Long id) {
+}
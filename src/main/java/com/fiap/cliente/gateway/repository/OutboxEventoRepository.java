@@ -0,0 +1,32 @@
+package com.fiap.cliente.gateway.repository;
+
+import com.fiap.cliente.gateway.entity.OutboxEventoEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventoRepository extends JpaRepository<OutboxEventoEntity, Long> {
+
+    // FOR UPDATE SKIP LOCKED (timeout -2): relays de instâncias diferentes pegam lotes disjuntos
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    List<OutboxEventoEntity> findByPublicadoEmIsNullOrderByIdAsc(Limit limit);
+
+    @Modifying
+    @Query("update OutboxEventoEntity e set e.publicadoEm = :publicadoEm where e.id in :ids")
+    int marcarPublicados(Collection<Long> ids, Instant publicadoEm);
+
+    @Modifying
+    @Query("delete from OutboxEventoEntity e where e.publicadoEm < :limite")
+    int removerPublicadosAntes(Instant limite);
+}
@@ -0,0 +1,73 @@
+package com.fiap.cliente.gateway.sincronizacao;
+
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Invariante da sincronização incremental: a sequência de alteração é fixada no flush, não no commit, e
+ * {@code GET /clientes/changes} só entrega sequências mais antigas que {@code cliente.sincronizacao.atraso-seguro}. Uma
+ * transação que fizesse commit depois desse atraso gravaria abaixo de uma marca d'água já entregue e seria pulada.
+ * Por isso toda transação que grava clientes precisa fazer commit em até
+ * {@code cliente.sincronizacao.duracao-maxima-gravacao} depois da primeira sequência que recebeu; a que passa disso é
+ * desfeita no commit. A subida falha se a duração máxima não for menor que o atraso de segurança.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class PrazoGravacaoAlteracoes {
+
+    private static final Object PRIMEIRA_SEQUENCIA = new Object();
+
+    private final Duration duracaoMaxima;
+    private final long duracaoMaximaMicros;
+
+    public PrazoGravacaoAlteracoes(@Value("${cliente.sincronizacao.duracao-maxima-gravacao:20s}") Duration duracaoMaxima,
+                                   @Value("${cliente.sincronizacao.atraso-seguro:30s}") Duration atrasoSeguro) {
+        if (duracaoMaxima.compareTo(atrasoSeguro) >= 0) {
+            throw new IllegalStateException("cliente.sincronizacao.duracao-maxima-gravacao (" + duracaoMaxima
+                    + ") deve ser menor que cliente.sincronizacao.atraso-seguro (" + atrasoSeguro + ")");
+        }
+        this.duracaoMaxima = duracaoMaxima;
+        this.duracaoMaximaMicros = duracaoMaxima.toNanos() / 1000;
+    }
+
+    // Sequência recém-atribuída por um INSERT ou UPDATE; como ela só cresce, basta guardar a primeira da transação
+    public void registrar(Long sequencia) {
+        if (sequencia == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMEIRA_SEQUENCIA)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMEIRA_SEQUENCIA, sequencia);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                verificar(sequencia);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMEIRA_SEQUENCIA);
+            }
+        });
+    }
+
+    void verificar(long primeiraSequencia) {
+        long decorrido = SequenciaAlteracaoGenerator.limite(Instant.now()) - primeiraSequencia;
+        if (decorrido > duracaoMaximaMicros) {
+            log.warn("Gravação de clientes desfeita: {} ms entre a primeira alteração e o commit (máximo {})",
+                    decorrido / 1000, duracaoMaxima);
+            // Não pode ser uma TransactionException: no beforeCommit ela é tratada como falha do próprio commit e a
+            // transação não é desfeita
+            throw new IllegalStateException("Gravação de clientes excedeu " + duracaoMaxima
+                    + " e foi desfeita para não escapar da sincronização incremental");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.domain.Cliente;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Fila limitada de um assinante. Quem publica só enfileira e nunca espera pela conexão; no máximo uma tarefa por
+ * assinante escreve na conexão, então a ordem das alterações se mantém.
+ */
+@Slf4j
+public class AssinaturaAlteracoes {
+
+    private static final Object BATIMENTO = new Object();
+
+    private final Set<String> cpfs;
+    private final EntregaAlteracoes entrega;
+    private final BlockingQueue<Object> fila;
+    private final Executor envio;
+    private final Consumer<AssinaturaAlteracoes> aoFalhar;
+    private final AtomicBoolean agendada = new AtomicBoolean();
+    private volatile boolean encerrada;
+
+    AssinaturaAlteracoes(Set<String> cpfs, EntregaAlteracoes entrega, int capacidade, Executor envio,
+                         Consumer<AssinaturaAlteracoes> aoFalhar) {
+        this.cpfs = cpfs;
+        this.entrega = entrega;
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.envio = envio;
+        this.aoFalhar = aoFalhar;
+    }
+
+    // Sem filtro recebe tudo; com filtro também recebe a alteração que tirou o CPF acompanhado do cliente
+    boolean interessada(String cpf, String cpfAnterior) {
+        return cpfs.isEmpty() || cpfs.contains(cpf) || (cpfAnterior != null && cpfs.contains(cpfAnterior));
+    }
+
+    // False quando a fila está cheia: o assinante não acompanha o ritmo das alterações
+    boolean oferecer(Cliente cliente) {
+        return enfileirar(cliente);
+    }
+
+    boolean oferecerBatimento() {
+        return enfileirar(BATIMENTO);
+    }
+
+    void encerrar() {
+        encerrada = true;
+        fila.clear();
+        entrega.encerrar();
+    }
+
+    private boolean enfileirar(Object mensagem) {
+        if (encerrada) {
+            return true;
+        }
+        if (!fila.offer(mensagem)) {
+            return false;
+        }
+        agendar();
+        return true;
+    }
+
+    private void agendar() {
+        if (agendada.compareAndSet(false, true)) {
+            try {
+                envio.execute(this::drenar);
+            } catch (RejectedExecutionException e) {
+                agendada.set(false);
+            }
+        }
+    }
+
+    private void drenar() {
+        try {
+            Object mensagem;
+            while (!encerrada && (mensagem = fila.poll()) != null) {
+                if (mensagem == BATIMENTO) {
+                    entrega.manterConexao();
+                } else {
+                    entrega.enviar((Cliente) mensagem);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Falha ao escrever no assinante do stream de clientes: {}", e.getMessage());
+            agendada.set(false);
+            aoFalhar.accept(this);
+            return;
+        }
+        agendada.set(false);
+        // Mensagem enfileirada depois do último poll e antes de liberar a tarefa
+        if (!fila.isEmpty()) {
+            agendar();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.config.stream.StreamClientesProperties;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.exception.CapacidadeEsgotadaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entrega aos assinantes de {@code GET /clientes/stream} cada cadastro e atualização depois do commit: os feitos por
+ * esta instância e, pelo {@link RetransmissaoAlteracoesClientes}, os das demais. Cada assinante tem uma fila limitada
+ * ({@code cliente.stream.buffer}); quem a enche é desconectado em vez de segurar memória ou a thread que gravou, e ao
+ * reconectar pode recuperar o que perdeu por {@code GET /clientes/changes}. As conexões ({@code max-assinantes}) e as
+ * threads que escrevem nelas ({@code threads-envio}) são limitadas.
+ * Métricas: {@code cliente.stream.assinantes} e {@code cliente.stream.desconectados} por {@code motivo} (lento / erro).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@EnableConfigurationProperties(StreamClientesProperties.class)
+public class DifusorAlteracoesClientes {
+
+    static final String METRICA = "cliente.stream";
+
+    private final Set<AssinaturaAlteracoes> assinaturas = ConcurrentHashMap.newKeySet();
+    private final StreamClientesProperties properties;
+    private final ExecutorService envio;
+    private final ScheduledExecutorService batimento;
+    private final Counter lentos;
+    private final Counter falhas;
+
+    public DifusorAlteracoesClientes(StreamClientesProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        // Cada assinante ocupa no máximo uma tarefa na fila, então ela é limitada por max-assinantes. Uma escrita presa
+        // segura uma thread até a conexão falhar ou expirar; as demais seguem atendendo os outros assinantes
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreadsEnvio(), properties.getThreadsEnvio(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threads("stream-clientes"));
+        executor.allowCoreThreadTimeOut(true);
+        this.envio = executor;
+        this.batimento = Executors.newSingleThreadScheduledExecutor(threads("stream-clientes-batimento"));
+        long intervalo = properties.getBatimento().toMillis();
+        batimento.scheduleWithFixedDelay(this::manterConexoes, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        this.lentos = Counter.builder(METRICA + ".desconectados").tag("motivo", "lento").register(registry);
+        this.falhas = Counter.builder(METRICA + ".desconectados").tag("motivo", "erro").register(registry);
+        Gauge.builder(METRICA + ".assinantes", assinaturas, Set::size).register(registry);
+    }
+
+    // cpfs normalizados; vazio acompanha todos os clientes
+    public synchronized AssinaturaAlteracoes assinar(Set<String> cpfs, EntregaAlteracoes entrega) {
+        if (assinaturas.size() >= properties.getMaxAssinantes()) {
+            throw new CapacidadeEsgotadaException("Limite de assinantes do stream de clientes atingido. "
+                    + "Tente novamente mais tarde.");
+        }
+        AssinaturaAlteracoes assinatura = new AssinaturaAlteracoes(Set.copyOf(cpfs), entrega, properties.getBuffer(),
+                envio, this::descartarComFalha);
+        assinaturas.add(assinatura);
+        log.debug("Nova assinatura do stream de clientes; {} ativas", assinaturas.size());
+        return assinatura;
+    }
+
+    public void cancelar(AssinaturaAlteracoes assinatura) {
+        assinaturas.remove(assinatura);
+    }
+
+    // cpfAnterior: CPF antes de uma atualização que o trocou, para quem acompanhava o CPF antigo
+    public void publicarAposCommit(Cliente cliente, String cpfAnterior) {
+        if (assinaturas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            difundir(cliente, cpfAnterior);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                difundir(cliente, cpfAnterior);
+            }
+        });
+    }
+
+    void difundir(Cliente cliente, String cpfAnterior) {
+        for (AssinaturaAlteracoes assinatura : assinaturas) {
+            if (assinatura.interessada(cliente.getCpf(), cpfAnterior) && !assinatura.oferecer(cliente)) {
+                descartarLento(assinatura);
+            }
+        }
+    }
+
+    void manterConexoes() {
+        for (AssinaturaAlteracoes assinatura : assinaturas) {
+            if (!assinatura.oferecerBatimento()) {
+                descartarLento(assinatura);
+            }
+        }
+    }
+
+    int assinantes() {
+        return assinaturas.size();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        batimento.shutdownNow();
+        envio.shutdownNow();
+        assinaturas.forEach(AssinaturaAlteracoes::encerrar);
+        assinaturas.clear();
+    }
+
+    private void descartarLento(AssinaturaAlteracoes assinatura) {
+        if (assinaturas.remove(assinatura)) {
+            lentos.increment();
+            log.warn("Assinante do stream de clientes desconectado: mais de {} alterações pendentes", properties.getBuffer());
+            encerrarEmSegundoPlano(assinatura);
+        }
+    }
+
+    private void descartarComFalha(AssinaturaAlteracoes assinatura) {
+        if (assinaturas.remove(assinatura)) {
+            falhas.increment();
+            encerrarEmSegundoPlano(assinatura);
+        }
+    }
+
+    // Encerrar a conexão espera uma escrita em andamento; quem publicou não pode ficar preso nela
+    private void encerrarEmSegundoPlano(AssinaturaAlteracoes assinatura) {
+        try {
+            envio.execute(assinatura::encerrar);
+        } catch (RejectedExecutionException e) {
+            assinatura.encerrar();
+        }
+    }
+
+    private static ThreadFactory threads(String nome) {
+        AtomicInteger contador = new AtomicInteger();
+        return tarefa -> {
+            Thread thread = new Thread(tarefa, nome + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
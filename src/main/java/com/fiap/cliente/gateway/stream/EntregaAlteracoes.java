@@ -0,0 +1,18 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.domain.Cliente;
+
+import java.io.IOException;
+
+/**
+ * Conexão de um assinante do {@link DifusorAlteracoesClientes}. Uma falha em {@code enviar} ou {@code manterConexao}
+ * desconecta o assinante.
+ */
+public interface EntregaAlteracoes {
+
+    void enviar(Cliente cliente) throws IOException;
+
+    void manterConexao() throws IOException;
+
+    void encerrar();
+}
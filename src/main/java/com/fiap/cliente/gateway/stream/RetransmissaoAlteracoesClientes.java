@@ -0,0 +1,71 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.cache.EventoInvalidacao;
+import com.fiap.cliente.gateway.cache.InvalidacaoCacheClientes;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.mapper.ClienteMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Entrega aos assinantes desta instância os cadastros e atualizações feitos nas outras. Pega carona no
+ * {@link TransporteInvalidacao}, que já leva os ids gravados de cada instância para as demais, e relê esses clientes
+ * no primário. A entrega herda a garantia do transporte (nenhuma): um evento perdido é recuperado por
+ * {@code GET /clientes/changes}, como o de um assinante desconectado.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RetransmissaoAlteracoesClientes {
+
+    private final TransporteInvalidacao transporte;
+    private final InvalidacaoCacheClientes invalidacao;
+    private final DifusorAlteracoesClientes difusor;
+    private final ClienteRepository repository;
+    private final ClienteMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void assinar() {
+        transporte.assinar(this::aplicar);
+    }
+
+    void aplicar(EventoInvalidacao evento) {
+        // As gravações desta instância já foram entregues pelo próprio ClienteGatewayImpl
+        if (difusor.assinantes() == 0 || !evento.difundir() || evento.origem().equals(invalidacao.getOrigem())) {
+            return;
+        }
+        try {
+            // Transação de escrita vai ao primário: a réplica pode ainda não ter a gravação recém-confirmada
+            List<ClienteEntity> entidades = transactionTemplate.execute(status -> repository.findAllById(evento.ids()));
+            for (ClienteEntity entidade : entidades) {
+                Cliente cliente = mapper.toDomain(entidade);
+                difusor.difundir(cliente, evento.cpfAlterado() ? cpfAnterior(evento, cliente) : null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao retransmitir alteração de {} clientes recebida de {}", evento.ids().size(),
+                    evento.origem(), e);
+        }
+    }
+
+    // Numa troca de CPF o evento leva o anterior e o atual
+    private static String cpfAnterior(EventoInvalidacao evento, Cliente cliente) {
+        String atual = Cpf.normalizar(cliente.getCpf());
+        return evento.cpfs().stream()
+                .map(Cpf::normalizar)
+                .filter(cpf -> !cpf.equals(atual))
+                .findFirst()
+                .orElse(null);
+    }
+}
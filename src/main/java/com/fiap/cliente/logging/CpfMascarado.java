@@ -0,0 +1,61 @@
+package com.fiap.cliente.logging;
+
+/**
+ * Argumento de log que mascara CPFs ({@code 12345678901 -> ***456789**}) apenas quando a mensagem e formatada,
+ * ou seja, somente se o nivel estiver habilitado. Qualquer sequencia de 11 digitos do texto e mascarada, seguidos
+ * ou separados por ponto e hifen ({@code 123.456.789-01 -> ***.456.789-**}), o que cobre o CPF isolado, formatado
+ * e em URIs como {@code /clientes/12345678901}.
+ */
+public final class CpfMascarado {
+
+    private static final int DIGITOS_CPF = 11;
+
+    private final String valor;
+
+    private CpfMascarado(String valor) {
+        this.valor = valor;
+    }
+
+    public static CpfMascarado de(String valor) {
+        return new CpfMascarado(valor);
+    }
+
+    @Override
+    public String toString() {
+        if (valor == null) {
+            return "null";
+        }
+        char[] caracteres = valor.toCharArray();
+        int[] posicoesDigitos = new int[DIGITOS_CPF];
+        int digitos = 0;
+        for (int i = 0; i <= caracteres.length; i++) {
+            if (i < caracteres.length && Character.isDigit(caracteres[i])) {
+                if (digitos < DIGITOS_CPF) {
+                    posicoesDigitos[digitos] = i;
+                }
+                digitos++;
+            } else if (digitos == 0 || !separadorEntreDigitos(caracteres, i)) {
+                if (digitos == DIGITOS_CPF) {
+                    mascarar(caracteres, posicoesDigitos);
+                }
+                digitos = 0;
+            }
+        }
+        return new String(caracteres);
+    }
+
+    // Pontuacao do CPF formatado: so continua a sequencia se vier logo antes de outro digito
+    private static boolean separadorEntreDigitos(char[] caracteres, int i) {
+        return i + 1 < caracteres.length && (caracteres[i] == '.' || caracteres[i] == '-')
+                && Character.isDigit(caracteres[i + 1]);
+    }
+
+    // Mantem apenas os digitos centrais (4 a 9), como no padrao ***.456.789-**
+    private static void mascarar(char[] caracteres, int[] posicoesDigitos) {
+        for (int i = 0; i < 3; i++) {
+            caracteres[posicoesDigitos[i]] = '*';
+        }
+        caracteres[posicoesDigitos[9]] = '*';
+        caracteres[posicoesDigitos[10]] = '*';
+    }
+}
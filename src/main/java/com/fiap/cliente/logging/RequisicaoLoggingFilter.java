@@ -0,0 +1,47 @@
+package com.fiap.cliente.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma linha INFO por requisicao amostrada (metodo, URI com CPF mascarado, status e duracao), no lugar dos logs
+ * por etapa do controller e dos casos de uso, que ficam em DEBUG.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class RequisicaoLoggingFilter extends OncePerRequestFilter {
+
+    private final double taxaAmostragem;
+
+    public RequisicaoLoggingFilter(@Value("${cliente.logging.requisicoes.amostragem:1.0}") double taxaAmostragem) {
+        this.taxaAmostragem = taxaAmostragem;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled() || ThreadLocalRandom.current().nextDouble() >= taxaAmostragem) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            log.info("{} {} -> {} em {} ms", request.getMethod(), CpfMascarado.de(request.getRequestURI()),
+                    response.getStatus(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        }
+    }
+}
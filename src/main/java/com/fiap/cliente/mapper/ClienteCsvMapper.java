@@ -0,0 +1,99 @@
+package com.fiap.cliente.mapper;
+
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.request.EnderecoRequestDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Lê CSV simples (sem aspas) com cabeçalho: nome, cpf, dataNascimento (yyyy-MM-dd), rua, numero, cep, cidade, estado.
+// O separador pode ser ';' ou ',' e é detectado pelo cabeçalho; a ordem das colunas é livre.
+@Component
+public class ClienteCsvMapper {
+
+    private static final char BOM = '\uFEFF';
+
+    public List<ClienteRequestDTO> toRequestDTOs(InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String cabecalho = reader.readLine();
+        if (cabecalho == null || cabecalho.isBlank()) {
+            throw new IllegalArgumentException("Arquivo CSV vazio!");
+        }
+        if (cabecalho.charAt(0) == BOM) {
+            cabecalho = cabecalho.substring(1);
+        }
+        Pattern separador = Pattern.compile(cabecalho.indexOf(';') >= 0 ? ";" : ",");
+        Map<String, Integer> colunas = indexarColunas(separador.split(cabecalho, -1));
+        if (!colunas.containsKey("nome") || !colunas.containsKey("cpf")) {
+            throw new IllegalArgumentException("O CSV deve conter as colunas nome e cpf!");
+        }
+
+        List<ClienteRequestDTO> dtos = new ArrayList<>();
+        String linha;
+        int numeroLinha = 1;
+        while ((linha = reader.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            String[] campos = separador.split(linha, -1);
+            dtos.add(ClienteRequestDTO.builder()
+                    .nome(campo(campos, colunas, "nome"))
+                    .cpf(campo(campos, colunas, "cpf"))
+                    .dataNascimento(data(campo(campos, colunas, "datanascimento"), numeroLinha))
+                    .endereco(endereco(campos, colunas))
+                    .build());
+        }
+        return dtos;
+    }
+
+    private Map<String, Integer> indexarColunas(String[] nomes) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < nomes.length; i++) {
+            colunas.put(nomes[i].trim().toLowerCase(), i);
+        }
+        return colunas;
+    }
+
+    private EnderecoRequestDTO endereco(String[] campos, Map<String, Integer> colunas) {
+        EnderecoRequestDTO endereco = EnderecoRequestDTO.builder()
+                .rua(campo(campos, colunas, "rua"))
+                .numero(campo(campos, colunas, "numero"))
+                .cep(campo(campos, colunas, "cep"))
+                .cidade(campo(campos, colunas, "cidade"))
+                .estado(campo(campos, colunas, "estado"))
+                .build();
+        return endereco.equals(new EnderecoRequestDTO()) ? null : endereco;
+    }
+
+    private LocalDate data(String valor, int numeroLinha) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida na linha " + numeroLinha + " do CSV!");
+        }
+    }
+
+    private String campo(String[] campos, Map<String, Integer> colunas, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.length) {
+            return null;
+        }
+        String valor = campos[indice].trim();
+        return valor.isEmpty() ? null : valor;
+    }
+}
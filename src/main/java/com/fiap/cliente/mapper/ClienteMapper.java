@@ -1,26 +1,49 @@
 package com.fiap.cliente.mapper;
 
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
 import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.domain.ItemImportacao;
 import com.fiap.cliente.dto.request.ClienteRequestDTO;
 import com.fiap.cliente.dto.request.EnderecoRequestDTO;
 import com.fiap.cliente.dto.response.ClienteResponseDTO;
 import com.fiap.cliente.dto.response.EnderecoResponseDTO;
+import com.fiap.cliente.dto.response.ItemImportacaoResponseDTO;
 import com.fiap.cliente.gateway.entity.ClienteEntity;
 import com.fiap.cliente.gateway.entity.EnderecoEmbeddable;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Mapper(componentModel = "spring")
+import java.util.List;
+
+@Mapper(componentModel = "spring", imports = Cpf.class)
 public interface ClienteMapper {
 
+    @Mapping(target = "cpf", expression = "java(Cpf.normalizar(cliente.getCpf()))")
+    @Mapping(target = "cpfNumero", expression = "java(Cpf.numero(cliente.getCpf()))")
     ClienteEntity toEntity(Cliente cliente);
     Cliente toDomain(ClienteEntity entity);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "cpf", expression = "java(Cpf.normalizar(cliente.getCpf()))")
+    @Mapping(target = "cpfNumero", expression = "java(Cpf.numero(cliente.getCpf()))")
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "atualizadoEm", ignore = true)
+    @Mapping(target = "sequenciaAlteracao", ignore = true)
+    void atualizarEntity(Cliente cliente, @MappingTarget ClienteEntity entity);
+
+    @Mapping(target = "cpf", expression = "java(Cpf.normalizar(dto.getCpf()))")
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "atualizadoEm", ignore = true)
+    @Mapping(target = "sequenciaAlteracao", ignore = true)
     Cliente toDomain(ClienteRequestDTO dto);
     Endereco toDomain(EnderecoRequestDTO dto);
+    List<Cliente> toDomainList(List<ClienteRequestDTO> dtos);
 
     ClienteResponseDTO toResponseDTO(Cliente cliente);
     EnderecoResponseDTO toResponseDTO(Endereco endereco);
+    ItemImportacaoResponseDTO toResponseDTO(ItemImportacao item);
 
     EnderecoEmbeddable toEmbeddable(Endereco endereco);
     Endereco toDomain(EnderecoEmbeddable embeddable);
@@ -0,0 +1,100 @@
+package com.fiap.cliente.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timers (com histograma de percentis) de cada método público dos casos de uso e do {@code ClienteGateway}, com as tags
+ * {@code classe}, {@code metodo} e {@code outcome}. Como fica por fora do cache e das transações, mede o tempo visto por
+ * quem chama; a contagem por outcome sai do próprio timer ({@code _count} no Prometheus).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MetricasAspect {
+
+    static final String METRICA_USECASE = "cliente.usecase";
+    static final String METRICA_GATEWAY = "cliente.gateway";
+
+    static final String FOUND = "found";
+    static final String NOT_FOUND = "not_found";
+    static final String SUCCESS = "success";
+    static final String CONFLICT = "conflict";
+    static final String INVALID = "invalid";
+    static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    // Registrar o timer a cada chamada montaria o builder e consultaria o registry no caminho quente
+    private final Map<Chave, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.fiap.cliente.usecase.service..*(..))")
+    public Object medirUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir(METRICA_USECASE, joinPoint);
+    }
+
+    @Around("execution(public * com.fiap.cliente.gateway.ClienteGateway+.*(..))")
+    public Object medirGateway(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir(METRICA_GATEWAY, joinPoint);
+    }
+
+    private Object medir(String metrica, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String outcome = ERROR;
+        try {
+            Object resultado = joinPoint.proceed();
+            outcome = outcome(resultado);
+            return resultado;
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            Chave chave = new Chave(metrica, joinPoint.getSignature().getDeclaringType(),
+                    joinPoint.getSignature().getName(), outcome);
+            amostra.stop(timers.computeIfAbsent(chave, this::registrar));
+        }
+    }
+
+    private Timer registrar(Chave chave) {
+        return Timer.builder(chave.metrica())
+                .tag("classe", chave.classe().getSimpleName())
+                .tag("metodo", chave.metodo())
+                .tag("outcome", chave.outcome())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String outcome(Object resultado) {
+        if (resultado instanceof Optional<?> optional) {
+            return optional.isPresent() ? FOUND : NOT_FOUND;
+        }
+        return SUCCESS;
+    }
+
+    private static String outcome(Throwable erro) {
+        // Os casos de uso traduzem DuplicateKeyException em IllegalArgumentException mantendo a causa
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof DuplicateKeyException || causa instanceof OptimisticLockingFailureException) {
+                return CONFLICT;
+            }
+        }
+        return erro instanceof IllegalArgumentException ? INVALID : ERROR;
+    }
+
+    private record Chave(String metrica, Class<?> classe, String metodo, String outcome) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.stream.AssinaturaAlteracoes;
+import com.fiap.cliente.gateway.stream.DifusorAlteracoesClientes;
+import com.fiap.cliente.gateway.stream.EntregaAlteracoes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AcompanharClientesServiceUseCase {
+
+    static final int LIMITE_CPFS = 1000;
+
+    private final DifusorAlteracoesClientes difusor;
+
+    // Sem CPFs acompanha todos os clientes
+    public AssinaturaAlteracoes execute(Collection<String> cpfs, EntregaAlteracoes entrega) {
+        if (cpfs != null && cpfs.size() > LIMITE_CPFS) {
+            throw new IllegalArgumentException("Informe no máximo " + LIMITE_CPFS + " CPFs!");
+        }
+        Set<String> normalizados = cpfs == null ? Set.of() : cpfs.stream()
+                .map(Cpf::normalizar)
+                .collect(Collectors.toSet());
+        return difusor.assinar(normalizados, entrega);
+    }
+
+    public void cancelar(AssinaturaAlteracoes assinatura) {
+        difusor.cancelar(assinatura);
+    }
+}
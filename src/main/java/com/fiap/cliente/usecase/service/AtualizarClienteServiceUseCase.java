@@ -1,18 +1,42 @@
 package com.fiap.cliente.usecase.service;
 
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.TipoEventoCliente;
 import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import com.fiap.cliente.logging.CpfMascarado;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class AtualizarClienteServiceUseCase {
 
     private final ClienteGateway gateway;
+    private final EventoClienteGateway eventoGateway;
 
+    // Cliente e evento no outbox na mesma transação
+    @Transactional
     public Cliente execute(Long id, Cliente cliente) {
+        Cpf.validar(cliente.getCpf());
         cliente.setId(id);
-        return gateway.atualizar(cliente);
+        Cliente atualizado;
+        try {
+            atualizado = gateway.atualizar(cliente);
+        } catch (DuplicateKeyException e) {
+            log.warn("CPF já cadastrado: {}", CpfMascarado.de(cliente.getCpf()));
+            throw new IllegalArgumentException("CPF já cadastrado!", e);
+        }
+        eventoGateway.registrar(TipoEventoCliente.ATUALIZADO, List.of(atualizado));
+        return atualizado;
     }
 }
@@ -0,0 +1,87 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AtualizarParcialClienteServiceUseCase {
+
+    private final ClienteGateway gateway;
+    private final EventoClienteGateway eventoGateway;
+
+    // Campos nulos em "alteracoes" não foram enviados e mantêm o valor atual
+    @Transactional
+    public Cliente execute(Long id, Cliente alteracoes) {
+        if (alteracoes.getCpf() != null) {
+            Cpf.validar(alteracoes.getCpf());
+        }
+        Cliente cliente = gateway.buscarPorId(id)
+                .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado!"));
+        // Versão esperada (If-Match) conferida mesmo quando nada muda
+        if (alteracoes.getVersao() != null && !alteracoes.getVersao().equals(cliente.getVersao())) {
+            throw new OptimisticLockingFailureException("Versão desatualizada do cliente ID: " + id);
+        }
+
+        boolean alterado = alterar(alteracoes.getNome(), cliente::getNome, cliente::setNome);
+        alterado |= alterar(alteracoes.getCpf(), cliente::getCpf, cliente::setCpf);
+        alterado |= alterar(alteracoes.getDataNascimento(), cliente::getDataNascimento, cliente::setDataNascimento);
+        alterado |= alterarEndereco(alteracoes.getEndereco(), cliente);
+
+        if (!alterado) {
+            log.debug("Nenhuma alteração para o cliente ID: {}", id);
+            return cliente;
+        }
+        Cliente atualizado;
+        try {
+            atualizado = gateway.atualizar(cliente);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("CPF já cadastrado!", e);
+        }
+        eventoGateway.registrar(TipoEventoCliente.ATUALIZADO, List.of(atualizado));
+        return atualizado;
+    }
+
+    private static boolean alterarEndereco(Endereco alteracoes, Cliente cliente) {
+        if (alteracoes == null) {
+            return false;
+        }
+        Endereco endereco = Optional.ofNullable(cliente.getEndereco()).orElseGet(Endereco::new);
+        boolean alterado = alterar(alteracoes.getRua(), endereco::getRua, endereco::setRua);
+        alterado |= alterar(alteracoes.getNumero(), endereco::getNumero, endereco::setNumero);
+        alterado |= alterar(alteracoes.getCep(), endereco::getCep, endereco::setCep);
+        alterado |= alterar(alteracoes.getCidade(), endereco::getCidade, endereco::setCidade);
+        alterado |= alterar(alteracoes.getEstado(), endereco::getEstado, endereco::setEstado);
+        if (alterado) {
+            cliente.setEndereco(endereco);
+        }
+        return alterado;
+    }
+
+    private static <T> boolean alterar(T novoValor, Supplier<T> valorAtual, Consumer<T> setter) {
+        if (novoValor == null || Objects.equals(novoValor, valorAtual.get())) {
+            return false;
+        }
+        setter.accept(novoValor);
+        return true;
+    }
+}
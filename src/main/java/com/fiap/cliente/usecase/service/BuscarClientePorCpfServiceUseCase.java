@@ -3,16 +3,21 @@ package com.fiap.cliente.usecase.service;
 import com.fiap.cliente.domain.Cliente;
 import com.fiap.cliente.gateway.ClienteGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class BuscarClientePorCpfServiceUseCase {
 
     private final ClienteGateway gateway;
 
+    // No primário, mesmo com réplicas: o resultado alimenta o cache de CPFs, que não pode guardar uma leitura atrasada
+    @Transactional
     public Optional<Cliente> execute(String cpf) {
         return gateway.buscarPorCpf(cpf);
     }
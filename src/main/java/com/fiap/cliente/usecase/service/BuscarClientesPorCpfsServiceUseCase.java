@@ -0,0 +1,30 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class BuscarClientesPorCpfsServiceUseCase {
+
+    static final int LIMITE_CPFS = 1000;
+
+    private final ClienteGateway gateway;
+
+    // No primário, como a busca por um CPF: o resultado alimenta o cache de CPFs
+    @Transactional
+    public Map<String, Cliente> execute(Set<String> cpfs) {
+        if (cpfs == null || cpfs.isEmpty() || cpfs.size() > LIMITE_CPFS) {
+            throw new IllegalArgumentException("Informe entre 1 e " + LIMITE_CPFS + " CPFs!");
+        }
+        return gateway.buscarPorCpfs(cpfs);
+    }
+}
@@ -1,26 +1,42 @@
 package com.fiap.cliente.usecase.service;
 
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.TipoEventoCliente;
 import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import com.fiap.cliente.logging.CpfMascarado;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class CadastrarClienteServiceUseCase {
 
     private final ClienteGateway gateway;
+    private final EventoClienteGateway eventoGateway;
 
+    // Cliente e evento no outbox na mesma transação
+    @Transactional
     public Cliente execute(Cliente cliente) {
-        log.info("Verifica existência de CPF: {}", cliente.getCpf());
-        gateway.buscarPorCpf(cliente.getCpf()).ifPresent(c -> {
-            log.warn("CPF já cadastrado: {}", cliente.getCpf());
-            throw new IllegalArgumentException("CPF já cadastrado!");
-        });
-        Cliente salvo = gateway.salvar(cliente);
-        log.info("Cliente salvo com ID: {}", salvo.getId());
-        return salvo;
+        log.debug("Cadastrando cliente com CPF: {}", CpfMascarado.de(cliente.getCpf()));
+        Cpf.validar(cliente.getCpf());
+        try {
+            Cliente salvo = gateway.salvar(cliente);
+            log.debug("Cliente salvo com ID: {}", salvo.getId());
+            eventoGateway.registrar(TipoEventoCliente.CRIADO, List.of(salvo));
+            return salvo;
+        } catch (DuplicateKeyException e) {
+            log.warn("CPF já cadastrado: {}", CpfMascarado.de(cliente.getCpf()));
+            throw new IllegalArgumentException("CPF já cadastrado!", e);
+        }
     }
 }
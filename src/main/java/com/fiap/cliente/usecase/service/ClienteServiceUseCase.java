@@ -1,25 +1,31 @@
 package com.fiap.cliente.usecase.service;
 
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
 import com.fiap.cliente.domain.Endereco;
 import com.fiap.cliente.gateway.ClienteGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClienteServiceUseCase {
 
     private final ClienteGateway gateway;
 
     public Cliente cadastrar(Cliente cliente) {
-        gateway.buscarPorCpf(cliente.getCpf()).ifPresent(c -> {
-            throw new IllegalArgumentException("CPF já cadastrado!");
-        });
-        return gateway.salvar(cliente);
+        Cpf.validar(cliente.getCpf());
+        try {
+            return gateway.salvar(cliente);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("CPF já cadastrado!", e);
+        }
     }
 
     public Optional<Cliente> buscarPorCpf(String cpf) {
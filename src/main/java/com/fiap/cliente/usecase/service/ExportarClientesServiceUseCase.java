@@ -0,0 +1,21 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ExportarClientesServiceUseCase {
+
+    private final ClienteGateway gateway;
+
+    public void execute(Consumer<Cliente> consumidor) {
+        gateway.percorrerTodos(consumidor);
+    }
+}
@@ -0,0 +1,145 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.ItemImportacao;
+import com.fiap.cliente.domain.StatusImportacao;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ImportarClientesServiceUseCase {
+
+    static final int LIMITE_REGISTROS = 250_000;
+    // Cada lote é gravado e confirmado na própria transação: uma importação grande não segura uma transação
+    // por mais que cliente.sincronizacao.duracao-maxima-gravacao, nem acumula um único commit com todas as linhas
+    static final int TAMANHO_LOTE_COMMIT = 5_000;
+
+    private final ClienteGateway gateway;
+    private final EventoClienteGateway eventoGateway;
+    private final TransactionTemplate transactionTemplate;
+
+    public List<ItemImportacao> execute(List<Cliente> clientes) {
+        if (clientes.isEmpty() || clientes.size() > LIMITE_REGISTROS) {
+            throw new IllegalArgumentException("A importação deve conter entre 1 e " + LIMITE_REGISTROS + " clientes!");
+        }
+        log.info("Importando {} clientes", clientes.size());
+
+        List<ItemImportacao> itens = new ArrayList<>(clientes.size());
+        Map<String, ItemImportacao> candidatos = new HashMap<>();
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            ItemImportacao item = ItemImportacao.builder()
+                    .linha(i + 1)
+                    .cpf(cliente.getCpf())
+                    .build();
+            itens.add(item);
+
+            if (isBlank(cliente.getNome()) || isBlank(cliente.getCpf())) {
+                rejeitar(item, "Nome e CPF são obrigatórios!");
+            } else if (Cpf.numero(cliente.getCpf()) == null) {
+                rejeitar(item, "CPF inválido!");
+            } else if (candidatos.containsKey(cliente.getCpf())) {
+                rejeitar(item, "CPF duplicado na importação (linha " + candidatos.get(cliente.getCpf()).getLinha() + ")!");
+            } else {
+                candidatos.put(cliente.getCpf(), item);
+            }
+        }
+
+        Set<String> existentes = gateway.buscarCpfsExistentes(candidatos.keySet());
+        List<Cliente> novos = new ArrayList<>(candidatos.size() - existentes.size());
+        List<ItemImportacao> itensNovos = new ArrayList<>(novos.size());
+        for (ItemImportacao item : itens) {
+            if (item.getStatus() != null) {
+                continue;
+            }
+            if (existentes.contains(item.getCpf())) {
+                rejeitar(item, "CPF já cadastrado!");
+            } else {
+                novos.add(clientes.get(item.getLinha() - 1));
+                itensNovos.add(item);
+            }
+        }
+
+        int importados = 0;
+        for (int inicio = 0; inicio < novos.size(); inicio += TAMANHO_LOTE_COMMIT) {
+            int fim = Math.min(inicio + TAMANHO_LOTE_COMMIT, novos.size());
+            importados += salvarLote(novos.subList(inicio, fim), itensNovos.subList(inicio, fim));
+        }
+        log.info("Importação concluída: {} importados, {} rejeitados", importados, itens.size() - importados);
+        return itens;
+    }
+
+    private int salvarLote(List<Cliente> lote, List<ItemImportacao> itensLote) {
+        try {
+            return salvar(lote, itensLote);
+        } catch (DuplicateKeyException e) {
+            // Outro cadastro concorrente usou um dos CPFs depois da verificação: só este lote é desfeito, os já
+            // confirmados ficam. Os CPFs do lote são verificados de novo e o restante é gravado uma única vez mais
+            log.warn("CPF cadastrado concorrentemente durante a importação; verificando o lote de novo");
+            Set<String> existentes = gateway.buscarCpfsExistentes(
+                    itensLote.stream().map(ItemImportacao::getCpf).toList());
+            List<Cliente> restantes = new ArrayList<>(lote.size());
+            List<ItemImportacao> itensRestantes = new ArrayList<>(lote.size());
+            for (int i = 0; i < lote.size(); i++) {
+                ItemImportacao item = itensLote.get(i);
+                if (existentes.contains(item.getCpf())) {
+                    rejeitar(item, "CPF já cadastrado!");
+                } else {
+                    restantes.add(lote.get(i));
+                    itensRestantes.add(item);
+                }
+            }
+            try {
+                return salvar(restantes, itensRestantes);
+            } catch (DuplicateKeyException novamente) {
+                log.warn("Lote de {} clientes rejeitado: CPFs cadastrados concorrentemente", restantes.size());
+                itensRestantes.forEach(item ->
+                        rejeitar(item, "CPF cadastrado concorrentemente durante a importação!"));
+                return 0;
+            }
+        }
+    }
+
+    private int salvar(List<Cliente> lote, List<ItemImportacao> itensLote) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        List<Cliente> salvos = transactionTemplate.execute(status -> {
+            List<Cliente> gravados = gateway.salvarTodos(lote);
+            eventoGateway.registrar(TipoEventoCliente.CRIADO, gravados);
+            return gravados;
+        });
+        for (int i = 0; i < salvos.size(); i++) {
+            ItemImportacao item = itensLote.get(i);
+            item.setStatus(StatusImportacao.IMPORTADO);
+            item.setId(salvos.get(i).getId());
+        }
+        return salvos.size();
+    }
+
+    private void rejeitar(ItemImportacao item, String mensagem) {
+        item.setStatus(StatusImportacao.REJEITADO);
+        item.setMensagem(mensagem);
+    }
+
+    private boolean isBlank(String valor) {
+        return valor == null || valor.isBlank();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Clientes criados ou alterados depois de uma sequência de alteração, em ordem crescente de sequência. Só entram
+ * alterações mais antigas que o atraso de segurança: uma transação que ainda não fez commit (ou uma instância com o
+ * relógio atrasado) pode gravar sequências menores que a última já entregue, e seria pulada pela marca d'água.
+ */
+@Service
+@Profile("!reactive")
+public class ListarAlteracoesClientesServiceUseCase {
+
+    static final int LIMITE_MAXIMO = 1000;
+
+    private final ClienteGateway gateway;
+    private final Duration atrasoSeguro;
+
+    public ListarAlteracoesClientesServiceUseCase(ClienteGateway gateway,
+                                                  @Value("${cliente.sincronizacao.atraso-seguro:30s}") Duration atrasoSeguro) {
+        this.gateway = gateway;
+        this.atrasoSeguro = atrasoSeguro;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Cliente> execute(Long aposSequencia, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO + "!");
+        }
+        return gateway.listarAlteracoes(aposSequencia, Instant.now().minus(atrasoSeguro), limite);
+    }
+}
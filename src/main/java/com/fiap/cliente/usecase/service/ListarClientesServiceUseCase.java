@@ -3,17 +3,26 @@ package com.fiap.cliente.usecase.service;
 import com.fiap.cliente.domain.Cliente;
 import com.fiap.cliente.gateway.ClienteGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ListarClientesServiceUseCase {
 
+    static final int LIMITE_MAXIMO = 1000;
+
     private final ClienteGateway gateway;
 
-    public List<Cliente> execute() {
-        return gateway.listarTodos();
+    @Transactional(readOnly = true)
+    public List<Cliente> execute(Long aposId, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO + "!");
+        }
+        return gateway.listarPagina(aposId, limite);
     }
 }
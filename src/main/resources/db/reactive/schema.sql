@@ -0,0 +1,22 @@
+-- Mesmo layout gerado pelo Hibernate para ClienteEntity (perfil servlet), para as duas stacks compartilharem a tabela
+CREATE SEQUENCE IF NOT EXISTS clientes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS clientes (
+    id BIGINT NOT NULL PRIMARY KEY,
+    nome VARCHAR(255),
+    cpf VARCHAR(255) NOT NULL UNIQUE,
+    cpf_numero BIGINT,
+    data_nascimento DATE,
+    rua VARCHAR(255),
+    numero VARCHAR(255),
+    cep VARCHAR(255),
+    cidade VARCHAR(255),
+    estado VARCHAR(255),
+    versao BIGINT,
+    atualizado_em TIMESTAMP WITH TIME ZONE,
+    sequencia_alteracao BIGINT
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_clientes_cpf_numero ON clientes (cpf_numero);
+
+CREATE INDEX IF NOT EXISTS idx_clientes_sequencia_alteracao ON clientes (sequencia_alteracao);
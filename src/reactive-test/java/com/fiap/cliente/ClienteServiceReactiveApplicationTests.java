@@ -0,0 +1,54 @@
+package com.fiap.cliente;
+
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.r2dbc.url=r2dbc:h2:mem:///clientes-reactive?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@ActiveProfiles("reactive")
+class ClienteServiceReactiveApplicationTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void deveCadastrarEBuscarClientePelaStackReativa() {
+		ClienteRequestDTO dto = ClienteRequestDTO.builder()
+				.nome("João Silva")
+				.cpf("12345678901")
+				.build();
+
+		webTestClient.post().uri("/clientes").bodyValue(dto)
+				.exchange()
+				.expectStatus().isOk();
+
+		webTestClient.post().uri("/clientes").bodyValue(dto)
+				.exchange()
+				.expectStatus().isBadRequest();
+
+		ClienteResponseDTO encontrado = webTestClient.get().uri("/clientes/12345678901")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(ClienteResponseDTO.class)
+				.returnResult()
+				.getResponseBody();
+		assertThat(encontrado.getNome()).isEqualTo("João Silva");
+
+		webTestClient.get().uri("/clientes/99999999999")
+				.exchange()
+				.expectStatus().isNotFound();
+
+		webTestClient.get().uri("/clientes")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(ClienteResponseDTO.class)
+				.hasSize(1);
+	}
+}
@@ -0,0 +1,142 @@
+package com.fiap.cliente.controller.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.mapper.ClienteMapper;
+import com.fiap.cliente.usecase.reactive.AtualizarClienteReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.BuscarClientePorCpfReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.CadastrarClienteReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.ListarClientesReactiveServiceUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClienteReactiveControllerTest {
+
+    @Mock
+    private CadastrarClienteReactiveServiceUseCase cadastrarUseCase;
+
+    @Mock
+    private AtualizarClienteReactiveServiceUseCase atualizarUseCase;
+
+    @Mock
+    private BuscarClientePorCpfReactiveServiceUseCase buscarPorCpfUseCase;
+
+    @Mock
+    private ListarClientesReactiveServiceUseCase listarUseCase;
+
+    @Spy
+    private ClienteMapper mapper = Mappers.getMapper(ClienteMapper.class);
+
+    @InjectMocks
+    private ClienteReactiveController controller;
+
+    private ClienteRequestDTO requestDTO;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        requestDTO = ClienteRequestDTO.builder()
+                .nome("João Silva")
+                .cpf("12345678901")
+                .dataNascimento(LocalDate.of(1990, 1, 1))
+                .build();
+        cliente = Cliente.builder()
+                .id(1L)
+                .nome("João Silva")
+                .cpf("12345678901")
+                .dataNascimento(LocalDate.of(1990, 1, 1))
+                .build();
+    }
+
+    @Test
+    void deveCadastrarCliente() {
+        // Given
+        when(cadastrarUseCase.execute(any(Cliente.class))).thenReturn(Mono.just(cliente));
+
+        // When / Then
+        StepVerifier.create(controller.cadastrar(requestDTO))
+                .assertNext(resposta -> {
+                    assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(resposta.getBody().getId()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarClienteQuandoCpfExistir() {
+        // Given
+        when(buscarPorCpfUseCase.execute("12345678901")).thenReturn(Mono.just(cliente));
+
+        // When / Then
+        StepVerifier.create(controller.buscarPorCpf("12345678901"))
+                .assertNext(resposta -> {
+                    assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(resposta.getBody().getCpf()).isEqualTo("12345678901");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarNotFoundQuandoCpfNaoExistir() {
+        // Given
+        when(buscarPorCpfUseCase.execute("99999999999")).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(controller.buscarPorCpf("99999999999"))
+                .assertNext(resposta -> assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND))
+                .verifyComplete();
+    }
+
+    @Test
+    void deveListarClientesComoFluxo() {
+        // Given
+        Cliente outro = Cliente.builder().id(2L).cpf("10987654321").build();
+        when(listarUseCase.execute()).thenReturn(Flux.just(cliente, outro));
+
+        // When / Then
+        StepVerifier.create(controller.listarTodos().map(ClienteResponseDTO::getId))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void deveAtualizarCliente() {
+        // Given
+        when(atualizarUseCase.execute(eq(1L), any(Cliente.class))).thenReturn(Mono.just(cliente));
+
+        // When / Then
+        StepVerifier.create(controller.atualizar(1L, requestDTO))
+                .assertNext(resposta -> assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK))
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarNotFoundAoAtualizarClienteInexistente() {
+        // Given
+        when(atualizarUseCase.execute(eq(999L), any(Cliente.class))).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(controller.atualizar(999L, requestDTO))
+                .assertNext(resposta -> assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,132 @@
+package com.fiap.cliente.gateway.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Endereco;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveClienteGatewayImplTest {
+
+    private ReactiveClienteGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        new ResourceDatabasePopulator(new ClassPathResource("db/reactive/schema.sql"))
+                .populate(connectionFactory)
+                .block();
+        gateway = new ReactiveClienteGatewayImpl(DatabaseClient.create(connectionFactory));
+    }
+
+    @Test
+    void deveSalvarEBuscarClientePorCpf() {
+        // Given
+        Cliente cliente = cliente("12345678901");
+
+        // When / Then
+        StepVerifier.create(gateway.salvar(cliente).then(gateway.buscarPorCpf("12345678901")))
+                .assertNext(encontrado -> {
+                    assertThat(encontrado.getId()).isNotNull();
+                    assertThat(encontrado.getNome()).isEqualTo("João Silva");
+                    assertThat(encontrado.getDataNascimento()).isEqualTo(LocalDate.of(1990, 1, 1));
+                    assertThat(encontrado.getEndereco().getCidade()).isEqualTo("São Paulo");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoCpfNaoExistirOuForNulo() {
+        StepVerifier.create(gateway.buscarPorCpf("99999999999")).verifyComplete();
+        StepVerifier.create(gateway.buscarPorCpf(null)).verifyComplete();
+    }
+
+    @Test
+    void deveManterEnderecoNuloQuandoNaoInformado() {
+        // Given
+        Cliente cliente = cliente("12345678901");
+        cliente.setEndereco(null);
+
+        // When / Then
+        StepVerifier.create(gateway.salvar(cliente).flatMap(salvo -> gateway.buscarPorId(salvo.getId())))
+                .assertNext(encontrado -> assertThat(encontrado.getEndereco()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    void deveLancarDuplicateKeyExceptionQuandoCpfJaCadastrado() {
+        // Given
+        gateway.salvar(cliente("12345678901")).block();
+
+        // When / Then
+        StepVerifier.create(gateway.salvar(cliente("12345678901")))
+                .expectError(DuplicateKeyException.class)
+                .verify();
+    }
+
+    @Test
+    void deveAtualizarClienteExistente() {
+        // Given
+        Cliente salvo = gateway.salvar(cliente("12345678901")).block();
+        Cliente alterado = cliente("12345678901");
+        alterado.setId(salvo.getId());
+        alterado.setNome("João Souza");
+
+        // When / Then
+        StepVerifier.create(gateway.atualizar(alterado).then(gateway.buscarPorId(salvo.getId())))
+                .assertNext(encontrado -> assertThat(encontrado.getNome()).isEqualTo("João Souza"))
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarVazioAoAtualizarClienteInexistente() {
+        // Given
+        Cliente cliente = cliente("12345678901");
+        cliente.setId(999L);
+
+        // When / Then
+        StepVerifier.create(gateway.atualizar(cliente)).verifyComplete();
+    }
+
+    @Test
+    void deveListarClientesOrdenadosPorIdSobDemanda() {
+        // Given
+        gateway.salvar(cliente("11111111111")).block();
+        gateway.salvar(cliente("22222222222")).block();
+        gateway.salvar(cliente("33333333333")).block();
+
+        // When / Then
+        StepVerifier.create(gateway.listarTodos().map(Cliente::getCpf), 1)
+                .expectNext("11111111111")
+                .thenRequest(2)
+                .expectNext("22222222222", "33333333333")
+                .verifyComplete();
+    }
+
+    private static Cliente cliente(String cpf) {
+        return Cliente.builder()
+                .nome("João Silva")
+                .cpf(cpf)
+                .dataNascimento(LocalDate.of(1990, 1, 1))
+                .endereco(Endereco.builder()
+                        .rua("Rua A")
+                        .numero("100")
+                        .cep("01000-000")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AtualizarClienteReactiveServiceUseCaseTest {
+
+    @Mock
+    private ReactiveClienteGateway gateway;
+
+    @InjectMocks
+    private AtualizarClienteReactiveServiceUseCase useCase;
+
+    @Test
+    void deveAtualizarClienteComIdInformado() {
+        // Given
+        Cliente cliente = Cliente.builder().nome("João Souza").cpf("12345678901").build();
+        when(gateway.atualizar(cliente)).thenReturn(Mono.just(cliente));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(1L, cliente))
+                .expectNextMatches(atualizado -> atualizado.getId().equals(1L))
+                .verifyComplete();
+        verify(gateway).atualizar(argThat(c -> c.getId().equals(1L)));
+    }
+
+    @Test
+    void deveRetornarVazioQuandoClienteNaoExistir() {
+        // Given
+        Cliente cliente = Cliente.builder().nome("João Souza").cpf("12345678901").build();
+        when(gateway.atualizar(cliente)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(useCase.execute(999L, cliente)).verifyComplete();
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCpfJaPertencerAOutroCliente() {
+        // Given
+        Cliente cliente = Cliente.builder().nome("João Souza").cpf("12345678901").build();
+        when(gateway.atualizar(cliente)).thenReturn(Mono.error(new DuplicateKeyException("CPF já cadastrado")));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(1L, cliente))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && "CPF já cadastrado!".equals(e.getMessage()))
+                .verify();
+    }
+}
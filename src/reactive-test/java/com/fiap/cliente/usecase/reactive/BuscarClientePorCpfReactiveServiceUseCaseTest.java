@@ -0,0 +1,44 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarClientePorCpfReactiveServiceUseCaseTest {
+
+    @Mock
+    private ReactiveClienteGateway gateway;
+
+    @InjectMocks
+    private BuscarClientePorCpfReactiveServiceUseCase useCase;
+
+    @Test
+    void deveRetornarClienteQuandoCpfExistir() {
+        // Given
+        Cliente cliente = Cliente.builder().id(1L).cpf("12345678901").build();
+        when(gateway.buscarPorCpf("12345678901")).thenReturn(Mono.just(cliente));
+
+        // When / Then
+        StepVerifier.create(useCase.execute("12345678901"))
+                .expectNext(cliente)
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoCpfNaoExistir() {
+        // Given
+        when(gateway.buscarPorCpf("99999999999")).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(useCase.execute("99999999999")).verifyComplete();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CadastrarClienteReactiveServiceUseCaseTest {
+
+    @Mock
+    private ReactiveClienteGateway gateway;
+
+    @InjectMocks
+    private CadastrarClienteReactiveServiceUseCase useCase;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        cliente = Cliente.builder()
+                .nome("João Silva")
+                .cpf("12345678901")
+                .build();
+    }
+
+    @Test
+    void deveCadastrarCliente() {
+        // Given
+        Cliente salvo = Cliente.builder().id(1L).nome("João Silva").cpf("12345678901").build();
+        when(gateway.salvar(cliente)).thenReturn(Mono.just(salvo));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(cliente))
+                .expectNext(salvo)
+                .verifyComplete();
+        verify(gateway).salvar(cliente);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCpfJaCadastrado() {
+        // Given
+        when(gateway.salvar(cliente)).thenReturn(Mono.error(new DuplicateKeyException("CPF já cadastrado")));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(cliente))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && "CPF já cadastrado!".equals(e.getMessage()))
+                .verify();
+    }
+}
@@ -0,0 +1,36 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListarClientesReactiveServiceUseCaseTest {
+
+    @Mock
+    private ReactiveClienteGateway gateway;
+
+    @InjectMocks
+    private ListarClientesReactiveServiceUseCase useCase;
+
+    @Test
+    void deveListarClientesDoGateway() {
+        // Given
+        Cliente primeiro = Cliente.builder().id(1L).build();
+        Cliente segundo = Cliente.builder().id(2L).build();
+        when(gateway.listarTodos()).thenReturn(Flux.just(primeiro, segundo));
+
+        // When / Then
+        StepVerifier.create(useCase.execute())
+                .expectNext(primeiro, segundo)
+                .verifyComplete();
+    }
+}
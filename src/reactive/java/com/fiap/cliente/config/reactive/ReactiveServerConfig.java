@@ -0,0 +1,18 @@
+package com.fiap.cliente.config.reactive;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    // Com o Tomcat no classpath (perfil servlet) o Spring Boot o escolheria tambem no modo reativo;
+    // o Netty atende as requisicoes com poucas threads de event loop
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.cliente.controller.reactive;
+
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.response.ClienteResponseDTO;
+import com.fiap.cliente.logging.CpfMascarado;
+import com.fiap.cliente.mapper.ClienteMapper;
+import com.fiap.cliente.usecase.reactive.AtualizarClienteReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.BuscarClientePorCpfReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.CadastrarClienteReactiveServiceUseCase;
+import com.fiap.cliente.usecase.reactive.ListarClientesReactiveServiceUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("/clientes")
+@RequiredArgsConstructor
+public class ClienteReactiveController {
+
+    private final CadastrarClienteReactiveServiceUseCase cadastrarUseCase;
+    private final AtualizarClienteReactiveServiceUseCase atualizarUseCase;
+    private final BuscarClientePorCpfReactiveServiceUseCase buscarPorCpfUseCase;
+    private final ListarClientesReactiveServiceUseCase listarUseCase;
+    private final ClienteMapper mapper;
+
+    @PostMapping
+    public Mono<ResponseEntity<ClienteResponseDTO>> cadastrar(@RequestBody ClienteRequestDTO dto) {
+        log.debug("Iniciando cadastro de cliente com CPF: {}", CpfMascarado.de(dto.getCpf()));
+        return cadastrarUseCase.execute(mapper.toDomain(dto))
+                .map(salvo -> {
+                    log.debug("Cliente cadastrado com sucesso, ID: {}", salvo.getId());
+                    return ResponseEntity.ok(mapper.toResponseDTO(salvo));
+                });
+    }
+
+    @GetMapping("/{cpf}")
+    public Mono<ResponseEntity<ClienteResponseDTO>> buscarPorCpf(@PathVariable String cpf) {
+        log.debug("Buscando cliente por CPF: {}", CpfMascarado.de(cpf));
+        return buscarPorCpfUseCase.execute(cpf)
+                .map(cliente -> ResponseEntity.ok(mapper.toResponseDTO(cliente)))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.debug("Cliente não encontrado para CPF: {}", CpfMascarado.de(cpf));
+                    return ResponseEntity.notFound().build();
+                }));
+    }
+
+    // JSON (array) ou NDJSON conforme o Accept; em ambos os casos escrito item a item, com backpressure ate o banco
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ClienteResponseDTO> listarTodos() {
+        log.info("Listando todos os clientes");
+        return listarUseCase.execute()
+                .map(mapper::toResponseDTO);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ClienteResponseDTO>> atualizar(@PathVariable Long id, @RequestBody ClienteRequestDTO dto) {
+        log.debug("Atualizando cliente ID: {}", id);
+        return atualizarUseCase.execute(id, mapper.toDomain(dto))
+                .map(atualizado -> {
+                    log.debug("Cliente atualizado com sucesso, ID: {}", atualizado.getId());
+                    return ResponseEntity.ok(mapper.toResponseDTO(atualizado));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
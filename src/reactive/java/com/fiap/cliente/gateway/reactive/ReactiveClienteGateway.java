@@ -0,0 +1,13 @@
+package com.fiap.cliente.gateway.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveClienteGateway {
+    Mono<Cliente> salvar(Cliente cliente);
+    Mono<Cliente> atualizar(Cliente cliente);
+    Mono<Cliente> buscarPorCpf(String cpf);
+    Mono<Cliente> buscarPorId(Long id);
+    Flux<Cliente> listarTodos();
+}
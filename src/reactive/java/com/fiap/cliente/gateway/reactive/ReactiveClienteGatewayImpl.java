@@ -0,0 +1,127 @@
+package com.fiap.cliente.gateway.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClienteGatewayImpl implements ReactiveClienteGateway {
+
+    private static final String SELECT_CLIENTES =
+            "SELECT id, nome, cpf, data_nascimento, rua, numero, cep, cidade, estado FROM clientes";
+    private static final int TAMANHO_LOTE_CONSULTA = 500;
+
+    private final DatabaseClient client;
+
+    @Override
+    public Mono<Cliente> salvar(Cliente cliente) {
+        // Cada nextval reserva um bloco de 50 ids para o otimizador pooled do JPA; usar so o topo do bloco
+        // evita colisao com instancias servlet gravando na mesma tabela
+        GenericExecuteSpec insert = client.sql("INSERT INTO clientes (id, nome, cpf, cpf_numero, data_nascimento, rua, numero, cep, cidade, estado, versao, "
+                + "atualizado_em, sequencia_alteracao) VALUES (nextval('clientes_seq'), :nome, :cpf, :cpfNumero, :dataNascimento, "
+                + ":rua, :numero, :cep, :cidade, :estado, 0, CURRENT_TIMESTAMP, :sequenciaAlteracao)");
+        return bindCampos(insert, cliente)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    cliente.setId(id);
+                    return cliente;
+                });
+    }
+
+    @Override
+    public Mono<Cliente> atualizar(Cliente cliente) {
+        GenericExecuteSpec update = client.sql("UPDATE clientes SET nome = :nome, cpf = :cpf, cpf_numero = :cpfNumero, data_nascimento = :dataNascimento, "
+                        + "rua = :rua, numero = :numero, cep = :cep, cidade = :cidade, estado = :estado, "
+                        + "versao = versao + 1, atualizado_em = CURRENT_TIMESTAMP, sequencia_alteracao = :sequenciaAlteracao "
+                        + "WHERE id = :id")
+                .bind("id", cliente.getId());
+        return bindCampos(update, cliente)
+                .fetch()
+                .rowsUpdated()
+                .filter(linhas -> linhas > 0)
+                .map(linhas -> cliente);
+    }
+
+    @Override
+    public Mono<Cliente> buscarPorCpf(String cpf) {
+        return Mono.justOrEmpty(Cpf.numero(cpf))
+                .flatMap(numero -> client.sql(SELECT_CLIENTES + " WHERE cpf_numero = :cpfNumero")
+                        .bind("cpfNumero", numero)
+                        .map(ReactiveClienteGatewayImpl::toDomain)
+                        .one());
+    }
+
+    @Override
+    public Mono<Cliente> buscarPorId(Long id) {
+        return Mono.justOrEmpty(id)
+                .flatMap(valor -> client.sql(SELECT_CLIENTES + " WHERE id = :id")
+                        .bind("id", valor)
+                        .map(ReactiveClienteGatewayImpl::toDomain)
+                        .one());
+    }
+
+    @Override
+    public Flux<Cliente> listarTodos() {
+        // Linhas puxadas do banco conforme a demanda do assinante, em lotes de TAMANHO_LOTE_CONSULTA
+        return client.sql(SELECT_CLIENTES + " ORDER BY id")
+                .filter(statement -> statement.fetchSize(TAMANHO_LOTE_CONSULTA))
+                .map(ReactiveClienteGatewayImpl::toDomain)
+                .all();
+    }
+
+    private static GenericExecuteSpec bindCampos(GenericExecuteSpec spec, Cliente cliente) {
+        Endereco endereco = Optional.ofNullable(cliente.getEndereco()).orElseGet(Endereco::new);
+        // Mesma sequência de alteração do perfil servlet, para GET /clientes/changes enxergar as duas stacks
+        spec = spec.bind("sequenciaAlteracao", SequenciaAlteracaoGenerator.proxima());
+        spec = bind(spec, "nome", cliente.getNome(), String.class);
+        spec = bind(spec, "cpf", Cpf.normalizar(cliente.getCpf()), String.class);
+        spec = bind(spec, "cpfNumero", Cpf.numero(cliente.getCpf()), Long.class);
+        spec = bind(spec, "dataNascimento", cliente.getDataNascimento(), LocalDate.class);
+        spec = bind(spec, "rua", endereco.getRua(), String.class);
+        spec = bind(spec, "numero", endereco.getNumero(), String.class);
+        spec = bind(spec, "cep", endereco.getCep(), String.class);
+        spec = bind(spec, "cidade", endereco.getCidade(), String.class);
+        return bind(spec, "estado", endereco.getEstado(), String.class);
+    }
+
+    private static GenericExecuteSpec bind(GenericExecuteSpec spec, String nome, Object valor, Class<?> tipo) {
+        return valor != null ? spec.bind(nome, valor) : spec.bindNull(nome, tipo);
+    }
+
+    private static Cliente toDomain(Readable row) {
+        Endereco endereco = Endereco.builder()
+                .rua(row.get("rua", String.class))
+                .numero(row.get("numero", String.class))
+                .cep(row.get("cep", String.class))
+                .cidade(row.get("cidade", String.class))
+                .estado(row.get("estado", String.class))
+                .build();
+        // Mesmo comportamento do @Embedded do JPA: endereco sem nenhuma coluna preenchida vira null
+        boolean semEndereco = Stream.of(endereco.getRua(), endereco.getNumero(), endereco.getCep(),
+                endereco.getCidade(), endereco.getEstado()).allMatch(campo -> campo == null);
+        return Cliente.builder()
+                .id(row.get("id", Long.class))
+                .nome(row.get("nome", String.class))
+                .cpf(row.get("cpf", String.class))
+                .dataNascimento(row.get("data_nascimento", LocalDate.class))
+                .endereco(semEndereco ? null : endereco)
+                .build();
+    }
+}
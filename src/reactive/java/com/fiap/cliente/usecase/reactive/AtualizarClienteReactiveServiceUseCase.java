@@ -0,0 +1,31 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import com.fiap.cliente.logging.CpfMascarado;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class AtualizarClienteReactiveServiceUseCase {
+
+    private final ReactiveClienteGateway gateway;
+
+    public Mono<Cliente> execute(Long id, Cliente cliente) {
+        cliente.setId(id);
+        return Mono.fromCallable(() -> Cpf.validar(cliente.getCpf()))
+                .then(gateway.atualizar(cliente))
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    log.warn("CPF já cadastrado: {}", CpfMascarado.de(cliente.getCpf()));
+                    return new IllegalArgumentException("CPF já cadastrado!", e);
+                });
+    }
+}
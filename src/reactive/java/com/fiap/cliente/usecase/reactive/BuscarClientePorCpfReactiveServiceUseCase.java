@@ -0,0 +1,20 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class BuscarClientePorCpfReactiveServiceUseCase {
+
+    private final ReactiveClienteGateway gateway;
+
+    public Mono<Cliente> execute(String cpf) {
+        return gateway.buscarPorCpf(cpf);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import com.fiap.cliente.logging.CpfMascarado;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class CadastrarClienteReactiveServiceUseCase {
+
+    private final ReactiveClienteGateway gateway;
+
+    public Mono<Cliente> execute(Cliente cliente) {
+        log.debug("Cadastrando cliente com CPF: {}", CpfMascarado.de(cliente.getCpf()));
+        return Mono.fromCallable(() -> Cpf.validar(cliente.getCpf()))
+                .then(gateway.salvar(cliente))
+                .doOnNext(salvo -> log.debug("Cliente salvo com ID: {}", salvo.getId()))
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    log.warn("CPF já cadastrado: {}", CpfMascarado.de(cliente.getCpf()));
+                    return new IllegalArgumentException("CPF já cadastrado!", e);
+                });
+    }
+}
@@ -0,0 +1,20 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.reactive.ReactiveClienteGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ListarClientesReactiveServiceUseCase {
+
+    private final ReactiveClienteGateway gateway;
+
+    public Flux<Cliente> execute() {
+        return gateway.listarTodos();
+    }
+}
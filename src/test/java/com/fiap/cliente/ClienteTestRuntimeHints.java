@@ -0,0 +1,17 @@
+package com.fiap.cliente;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.test.context.aot.TestRuntimeHintsRegistrar;
+
+// Hints dos testes em imagem nativa (-PnativeTest): o StatementInspector é instanciado pelo Hibernate a partir do nome
+class ClienteTestRuntimeHints implements TestRuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, Class<?> testClass, ClassLoader classLoader) {
+        hints.reflection().registerType(TypeReference.of(
+                        "com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCaseIntegrationTest$SqlExecutado"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,31 @@
+package com.fiap.cliente.config.aquecimento;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Modo crac numa JVM sem CRaC: o aquecimento roda na subida e a aplicação segue sem checkpoint
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"cliente.aquecimento.modo=crac", "cliente.aquecimento.iteracoes=2"})
+@ActiveProfiles("test")
+class AquecimentoAplicacaoIntegrationTest {
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Test
+    void deveExercitarAApiAntesDeFicarPronta() {
+        // Then
+        for (int i = 0; i < 2; i++) {
+            assertThat(gateway.buscarPorCpf(String.format("%011d", AquecimentoAplicacao.CPF_INICIAL + i)))
+                    .get()
+                    .extracting(Cliente::getNome)
+                    .isEqualTo("Cliente Aquecido");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.fiap.cliente.config.datasource;
+
+import com.fiap.cliente.config.cache.CacheConfig;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.BuscarClientePorCpfServiceUseCase;
+import com.fiap.cliente.usecase.service.CadastrarClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.ListarClientesServiceUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dois H2 em memória no papel de primário e réplica; a réplica não é replicada, então cada linha mostra onde foi lida
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario;DB_CLOSE_DELAY=-1",
+        "cliente.datasource.replicas[0].url=" + RoteamentoDataSourceIntegrationTest.URL_REPLICA,
+        "cliente.datasource.replicas[0].username=sa",
+        "cliente.datasource.consulta-atraso=SELECT 0"
+})
+@ActiveProfiles("test")
+class RoteamentoDataSourceIntegrationTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private BuscarClientePorCpfServiceUseCase buscarPorCpfUseCase;
+
+    @Autowired
+    private CadastrarClienteServiceUseCase cadastrarUseCase;
+
+    @Autowired
+    private ListarClientesServiceUseCase listarUseCase;
+
+    @Autowired
+    private AtualizarParcialClienteServiceUseCase atualizarParcialUseCase;
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RoteamentoDataSource roteamentoDataSource;
+
+    @Autowired
+    private DataSource primarioDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSourceReplica = new DriverManagerDataSource(URL_REPLICA, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/reactive/schema.sql")).execute(dataSourceReplica);
+        replica = new JdbcTemplate(dataSourceReplica);
+        replica.update("DELETE FROM clientes");
+        replica.update("INSERT INTO clientes (id, nome, cpf, cpf_numero, versao) "
+                + "VALUES (1, 'Lido da réplica', '11122233344', 11122233344, 0)");
+        roteamentoDataSource.verificarReplicas();
+    }
+
+    @Test
+    void deveLerDaReplicaEGravarNoPrimario() {
+        // When
+        List<Cliente> lidos = listarUseCase.execute(null, 10);
+        cadastrarUseCase.execute(Cliente.builder().nome("Gravado no primário").cpf("55544433322").build());
+
+        // Then
+        assertThat(lidos).extracting(Cliente::getNome).containsExactly("Lido da réplica");
+        assertThat(new JdbcTemplate(primarioDataSource)
+                .queryForObject("SELECT count(*) FROM clientes WHERE cpf = '55544433322'", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT count(*) FROM clientes WHERE cpf = '55544433322'", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void naoDeveAlimentarCachesComLeituraDeReplicaAtrasada() {
+        // Given: o primário tem o cadastro atual e a réplica, atrasada, a versão anterior
+        Cliente salvo = cadastrarUseCase.execute(Cliente.builder().nome("Nome atual").cpf("66677788899").build());
+        replica.update("DELETE FROM clientes WHERE id = ?", salvo.getId());
+        replica.update("INSERT INTO clientes (id, nome, cpf, cpf_numero, versao) "
+                + "VALUES (?, 'Nome atrasado', '66677788899', 66677788899, 0)", salvo.getId());
+        // Como numa invalidação recebida de outra instância
+        entityManagerFactory.getCache().evictAll();
+        Cache clientesPorCpf = cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF);
+        TransactionTemplate somenteLeitura = new TransactionTemplate(transactionManager);
+        somenteLeitura.setReadOnly(true);
+
+        // When: leituras na réplica seguidas de uma gravação e de uma nova busca pelo CPF
+        List<Cliente> pagina = listarUseCase.execute(salvo.getId() - 1, 1);
+        Cliente daReplica = somenteLeitura.execute(status -> gateway.buscarPorCpf("66677788899").orElseThrow());
+        boolean emCacheAposLeitura = entityManagerFactory.getCache().contains(ClienteEntity.class, salvo.getId());
+        atualizarParcialUseCase.execute(salvo.getId(), Cliente.builder().nome("Nome novo").build());
+        Cliente buscado = buscarPorCpfUseCase.execute("66677788899").orElseThrow();
+
+        // Then
+        assertThat(pagina).extracting(Cliente::getNome).containsExactly("Nome atrasado");
+        assertThat(daReplica.getNome()).isEqualTo("Nome atrasado");
+        assertThat(emCacheAposLeitura).isFalse();
+        assertThat(buscado.getNome()).isEqualTo("Nome novo");
+        assertThat(clientesPorCpf.get("66677788899", Cliente.class)).extracting(Cliente::getNome).isEqualTo("Nome novo");
+    }
+}
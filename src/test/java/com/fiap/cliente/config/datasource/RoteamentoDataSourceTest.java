@@ -0,0 +1,123 @@
+package com.fiap.cliente.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoteamentoDataSourceTest {
+
+    private DataSource primario;
+    private DataSource replica0;
+    private DataSource replica1;
+    private RoteamentoDataSource roteamento;
+
+    @BeforeEach
+    void setUp() {
+        primario = h2("primario");
+        replica0 = h2("replica0");
+        replica1 = h2("replica1");
+        definirAtraso(replica0, 0);
+        definirAtraso(replica1, 0);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        roteamento = new RoteamentoDataSource(primario, replicas, "SELECT segundos FROM atraso", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void deveUsarPrimarioForaDeTransacaoSomenteLeitura() throws SQLException {
+        // Given
+        roteamento.verificarReplicas();
+
+        // When & Then
+        assertThat(banco()).startsWith("PRIMARIO");
+    }
+
+    @Test
+    void deveUsarPrimarioAntesDaPrimeiraVerificacao() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(banco()).startsWith("PRIMARIO");
+    }
+
+    @Test
+    void deveAlternarEntreReplicasEmTransacaoSomenteLeitura() throws SQLException {
+        // Given
+        roteamento.verificarReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        String primeira = banco();
+        String segunda = banco();
+        String terceira = banco();
+
+        // Then
+        assertThat(primeira).startsWith("REPLICA");
+        assertThat(segunda).startsWith("REPLICA").isNotEqualTo(primeira);
+        assertThat(terceira).isEqualTo(primeira);
+    }
+
+    @Test
+    void deveIgnorarReplicaAtrasada() throws SQLException {
+        // Given
+        definirAtraso(replica0, 60);
+        roteamento.verificarReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(banco()).startsWith("REPLICA1");
+        assertThat(banco()).startsWith("REPLICA1");
+    }
+
+    @Test
+    void deveVoltarAoPrimarioQuandoTodasAsReplicasAtrasarem() throws SQLException {
+        // Given
+        roteamento.verificarReplicas();
+        definirAtraso(replica0, 60);
+        new JdbcTemplate(replica1).execute("DROP TABLE atraso");
+        roteamento.verificarReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(banco()).startsWith("PRIMARIO");
+    }
+
+    private String banco() throws SQLException {
+        try (Connection conexao = roteamento.getConnection()) {
+            return conexao.getCatalog();
+        }
+    }
+
+    private static void definirAtraso(DataSource replica, int segundos) {
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS atraso (segundos INT)");
+        jdbc.execute("DELETE FROM atraso");
+        jdbc.update("INSERT INTO atraso VALUES (?)", segundos);
+    }
+
+    private static DataSource h2(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + nome + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fiap.cliente.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClienteControllerCpfIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void deveEncontrarClienteCadastradoComCpfFormatado() throws Exception {
+        // Given
+        mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Bia\",\"cpf\":\"321.654.987-01\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cpf").value("32165498701"));
+
+        // When & Then
+        mockMvc.perform(get("/clientes/321.654.987-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Bia"));
+        mockMvc.perform(post("/clientes/lookup").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cpfs\":[\"32165498701\"]}"))
+                .andExpect(jsonPath("$.32165498701.nome").value("Bia"));
+    }
+
+    @Test
+    void deveRejeitarAtualizacaoParaCpfDeOutroCliente() throws Exception {
+        // Given
+        mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Davi\",\"cpf\":\"45678912301\"}"))
+                .andExpect(status().isOk());
+        String resposta = mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Eva\",\"cpf\":\"45678912302\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = JsonPath.parse(resposta).read("$.id", Long.class);
+
+        // When & Then
+        mockMvc.perform(put("/clientes/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Eva\",\"cpf\":\"456.789.123-01\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CPF já cadastrado!"));
+        mockMvc.perform(get("/clientes/45678912302"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Eva"));
+    }
+
+    @Test
+    void deveRejeitarCpfSemOnzeDigitos() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Caio\",\"cpf\":\"123.456.789\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CPF inválido!"));
+        mockMvc.perform(get("/clientes/123.456.789"))
+                .andExpect(status().isNotFound());
+    }
+}
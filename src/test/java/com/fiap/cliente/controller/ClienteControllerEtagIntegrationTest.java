@@ -0,0 +1,57 @@
+package com.fiap.cliente.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClienteControllerEtagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void deveControlarConcorrenciaPorEtag() throws Exception {
+        // Given
+        String id = mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Ana\",\"cpf\":\"55566677788\"}"))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-0\"")))
+                .andReturn().getResponse().getContentAsString().replaceAll(".*\"id\":(\\d+).*", "$1");
+        String etag = "\"" + id + "-0\"";
+
+        // When & Then: cache válido do cliente vira 304 sem corpo
+        mockMvc.perform(get("/clientes/55566677788").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // When & Then: a primeira escrita condicionada avança a versão
+        mockMvc.perform(put("/clientes/" + id).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Ana Maria\",\"cpf\":\"55566677788\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""));
+
+        // When & Then: a segunda, com o ETag antigo, é recusada
+        mockMvc.perform(put("/clientes/" + id).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Ana Paula\",\"cpf\":\"55566677788\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/clientes/55566677788").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""));
+    }
+}
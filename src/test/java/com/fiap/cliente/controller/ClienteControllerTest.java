@@ -1,28 +1,62 @@
 package com.fiap.cliente.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.config.cache.CacheHttpProperties;
+import com.fiap.cliente.config.stream.StreamClientesProperties;
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.ItemImportacao;
+import com.fiap.cliente.domain.StatusImportacao;
+import com.fiap.cliente.dto.request.ClienteLookupRequestDTO;
 import com.fiap.cliente.dto.request.ClienteRequestDTO;
 import com.fiap.cliente.dto.request.EnderecoRequestDTO;
+import com.fiap.cliente.dto.response.ClienteAlteracoesResponseDTO;
+import com.fiap.cliente.dto.response.ClientePaginaResponseDTO;
 import com.fiap.cliente.dto.response.ClienteResponseDTO;
 import com.fiap.cliente.dto.response.EnderecoResponseDTO;
+import com.fiap.cliente.dto.response.ImportacaoResponseDTO;
+import com.fiap.cliente.dto.response.ItemImportacaoResponseDTO;
+import com.fiap.cliente.mapper.ClienteCsvMapper;
 import com.fiap.cliente.mapper.ClienteMapper;
+import com.fiap.cliente.usecase.service.AcompanharClientesServiceUseCase;
 import com.fiap.cliente.usecase.service.AtualizarClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCase;
 import com.fiap.cliente.usecase.service.BuscarClientePorCpfServiceUseCase;
+import com.fiap.cliente.usecase.service.BuscarClientesPorCpfsServiceUseCase;
 import com.fiap.cliente.usecase.service.CadastrarClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.ExportarClientesServiceUseCase;
+import com.fiap.cliente.usecase.service.ImportarClientesServiceUseCase;
+import com.fiap.cliente.usecase.service.ListarAlteracoesClientesServiceUseCase;
 import com.fiap.cliente.usecase.service.ListarClientesServiceUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,15 +70,45 @@ class ClienteControllerTest {
     @Mock
     private AtualizarClienteServiceUseCase atualizarUseCase;
 
+    @Mock
+    private AtualizarParcialClienteServiceUseCase atualizarParcialUseCase;
+
     @Mock
     private BuscarClientePorCpfServiceUseCase buscarPorCpfUseCase;
 
+    @Mock
+    private BuscarClientesPorCpfsServiceUseCase buscarPorCpfsUseCase;
+
     @Mock
     private ListarClientesServiceUseCase listarUseCase;
 
+    @Mock
+    private ListarAlteracoesClientesServiceUseCase listarAlteracoesUseCase;
+
+    @Mock
+    private ExportarClientesServiceUseCase exportarUseCase;
+
+    @Mock
+    private ImportarClientesServiceUseCase importarUseCase;
+
+    @Mock
+    private AcompanharClientesServiceUseCase acompanharUseCase;
+
     @Mock
     private ClienteMapper mapper;
 
+    @Spy
+    private ClienteCsvMapper csvMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private CacheHttpProperties cacheHttpProperties = new CacheHttpProperties();
+
+    @Spy
+    private StreamClientesProperties streamProperties = new StreamClientesProperties();
+
     @InjectMocks
     private ClienteController clienteController;
 
@@ -52,9 +116,13 @@ class ClienteControllerTest {
     private ClienteResponseDTO clienteResponseDTO;
     private Cliente cliente;
     private Cliente clienteSalvo;
+    private MockHttpServletRequest requisicao;
+    private ServletWebRequest webRequest;
 
     @BeforeEach
     void setUp() {
+        requisicao = new MockHttpServletRequest("GET", "/clientes");
+        webRequest = new ServletWebRequest(requisicao, new MockHttpServletResponse());
         clienteRequestDTO = createClienteRequestDTO();
         clienteResponseDTO = createClienteResponseDTO();
         cliente = createCliente();
@@ -89,7 +157,7 @@ class ClienteControllerTest {
         when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // Act
-        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf(cpf);
+        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf(cpf, webRequest);
 
         // Assert
         assertNotNull(response);
@@ -107,7 +175,7 @@ class ClienteControllerTest {
         when(buscarPorCpfUseCase.execute(cpf)).thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf(cpf);
+        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf(cpf, webRequest);
 
         // Assert
         assertNotNull(response);
@@ -118,6 +186,22 @@ class ClienteControllerTest {
         verify(mapper, never()).toResponseDTO((Cliente) any());
     }
 
+    @Test
+    void deveBuscarClientesPorLoteDeCpfs() {
+        // Arrange
+        Set<String> cpfs = Set.of("12345678901", "99999999999");
+        when(buscarPorCpfsUseCase.execute(cpfs)).thenReturn(Map.of("12345678901", cliente));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+
+        // Act
+        Map<String, ClienteResponseDTO> response = clienteController.buscarPorCpfs(
+                ClienteLookupRequestDTO.builder().cpfs(cpfs).build());
+
+        // Assert
+        assertEquals(Map.of("12345678901", clienteResponseDTO), response);
+        verify(buscarPorCpfsUseCase).execute(cpfs);
+    }
+
     @Test
     void deveListarTodosOsClientesComSucesso() {
         // Arrange
@@ -126,12 +210,12 @@ class ClienteControllerTest {
 
         List<Cliente> clientes = Arrays.asList(cliente, outroCliente);
 
-        when(listarUseCase.execute()).thenReturn(clientes);
+        when(listarUseCase.execute(null, 100)).thenReturn(clientes);
         when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
         when(mapper.toResponseDTO(outroCliente)).thenReturn(outroClienteResponseDTO);
 
         // Act
-        List<ClienteResponseDTO> response = clienteController.listarTodos();
+        List<ClienteResponseDTO> response = clienteController.listarTodos(null, 100, webRequest).getBody();
 
         // Assert
         assertNotNull(response);
@@ -139,27 +223,202 @@ class ClienteControllerTest {
         assertEquals(clienteResponseDTO, response.get(0));
         assertEquals(outroClienteResponseDTO, response.get(1));
 
-        verify(listarUseCase).execute();
+        verify(listarUseCase).execute(null, 100);
         verify(mapper).toResponseDTO(cliente);
         verify(mapper).toResponseDTO(outroCliente);
     }
 
+    @Test
+    void deveRepassarCursorELimiteNaListagem() {
+        // Arrange
+        Cliente outroCliente = createOutroCliente();
+        when(listarUseCase.execute(1L, 1)).thenReturn(List.of(outroCliente));
+        when(mapper.toResponseDTO(outroCliente)).thenReturn(createOutroClienteResponseDTO());
+
+        // Act
+        List<ClienteResponseDTO> response = clienteController.listarTodos(1L, 1, webRequest).getBody();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(1, response.size());
+        verify(listarUseCase).execute(1L, 1);
+    }
+
     @Test
     void deveRetornarListaVaziaQuandoNaoHouverClientes() {
         // Arrange
-        when(listarUseCase.execute()).thenReturn(Arrays.asList());
+        when(listarUseCase.execute(null, 100)).thenReturn(Arrays.asList());
 
         // Act
-        List<ClienteResponseDTO> response = clienteController.listarTodos();
+        List<ClienteResponseDTO> response = clienteController.listarTodos(null, 100, webRequest).getBody();
 
         // Assert
         assertNotNull(response);
         assertTrue(response.isEmpty());
 
-        verify(listarUseCase).execute();
+        verify(listarUseCase).execute(null, 100);
         verify(mapper, never()).toResponseDTO(any(Cliente.class));
     }
 
+    @Test
+    void deveListarPaginaComProximoCursorQuandoPaginaEstiverCheia() {
+        // Arrange
+        Cliente outroCliente = createOutroCliente();
+        ClienteResponseDTO outroClienteResponseDTO = createOutroClienteResponseDTO();
+
+        when(listarUseCase.execute(null, 2)).thenReturn(Arrays.asList(cliente, outroCliente));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+        when(mapper.toResponseDTO(outroCliente)).thenReturn(outroClienteResponseDTO);
+
+        // Act
+        ClientePaginaResponseDTO response = clienteController.listarPagina(null, 2, webRequest).getBody();
+
+        // Assert
+        assertEquals(Arrays.asList(clienteResponseDTO, outroClienteResponseDTO), response.getClientes());
+        assertEquals(outroCliente.getId(), response.getProximoCursor());
+
+        verify(listarUseCase).execute(null, 2);
+    }
+
+    @Test
+    void deveListarAlteracoesERetomarPeloProximoToken() {
+        // Arrange
+        Cliente outroCliente = createOutroCliente();
+        cliente.setSequenciaAlteracao(10L);
+        outroCliente.setSequenciaAlteracao(20L);
+        when(listarAlteracoesUseCase.execute(null, 2)).thenReturn(Arrays.asList(cliente, outroCliente));
+        when(listarAlteracoesUseCase.execute(20L, 2)).thenReturn(List.of());
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+        when(mapper.toResponseDTO(outroCliente)).thenReturn(createOutroClienteResponseDTO());
+
+        // Act
+        ClienteAlteracoesResponseDTO primeira = clienteController.listarAlteracoes(null, 2);
+        ClienteAlteracoesResponseDTO segunda = clienteController.listarAlteracoes(primeira.getProximoToken(), 2);
+
+        // Assert
+        assertEquals(2, primeira.getClientes().size());
+        assertTrue(primeira.isTemMais());
+        assertTrue(segunda.getClientes().isEmpty());
+        assertFalse(segunda.isTemMais());
+        assertEquals(primeira.getProximoToken(), segunda.getProximoToken());
+        verify(listarAlteracoesUseCase).execute(20L, 2);
+    }
+
+    @Test
+    void deveRejeitarTokenDeSincronizacaoInvalido() {
+        // Act & Assert
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+                () -> clienteController.listarAlteracoes("nao-e-um-token", 100));
+        assertEquals("Token de sincronização inválido!", erro.getMessage());
+        verifyNoInteractions(listarAlteracoesUseCase);
+    }
+
+    @Test
+    void deveAssinarStreamComOsCpfsInformados() {
+        // Act
+        SseEmitter emitter = clienteController.acompanhar(List.of("123.456.789-01"));
+
+        // Assert
+        assertEquals(streamProperties.getTimeout().toMillis(), emitter.getTimeout());
+        verify(acompanharUseCase).execute(eq(List.of("123.456.789-01")), any(EntregaAlteracoesSse.class));
+    }
+
+    @Test
+    void deveListarUltimaPaginaSemProximoCursor() {
+        // Arrange
+        when(listarUseCase.execute(1L, 100)).thenReturn(Arrays.asList(cliente));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+
+        // Act
+        ClientePaginaResponseDTO response = clienteController.listarPagina(1L, 100, webRequest).getBody();
+
+        // Assert
+        assertEquals(1, response.getClientes().size());
+        assertNull(response.getProximoCursor());
+
+        verify(listarUseCase).execute(1L, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveExportarClientesComoNdjson() throws Exception {
+        // Arrange
+        Cliente outroCliente = createOutroCliente();
+        ClienteResponseDTO outroClienteResponseDTO = createOutroClienteResponseDTO();
+
+        doAnswer(invocation -> {
+            Consumer<Cliente> consumidor = invocation.getArgument(0);
+            consumidor.accept(cliente);
+            consumidor.accept(outroCliente);
+            return null;
+        }).when(exportarUseCase).execute(any(Consumer.class));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+        when(mapper.toResponseDTO(outroCliente)).thenReturn(outroClienteResponseDTO);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = clienteController.exportar();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals(clienteResponseDTO, objectMapper.readValue(linhas[0], ClienteResponseDTO.class));
+        assertEquals(outroClienteResponseDTO, objectMapper.readValue(linhas[1], ClienteResponseDTO.class));
+    }
+
+    @Test
+    void deveImportarClientesJsonComRelatorioPorLinha() {
+        // Arrange
+        List<ClienteRequestDTO> dtos = List.of(clienteRequestDTO, createOutroClienteRequestDTO());
+        List<Cliente> clientes = List.of(cliente, createOutroCliente());
+        ItemImportacao importado = ItemImportacao.builder().linha(1).cpf("12345678901")
+                .status(StatusImportacao.IMPORTADO).id(1L).build();
+        ItemImportacao rejeitado = ItemImportacao.builder().linha(2).cpf("98765432100")
+                .status(StatusImportacao.REJEITADO).mensagem("CPF já cadastrado!").build();
+        ItemImportacaoResponseDTO importadoDTO = ItemImportacaoResponseDTO.builder().linha(1).status("IMPORTADO").build();
+        ItemImportacaoResponseDTO rejeitadoDTO = ItemImportacaoResponseDTO.builder().linha(2).status("REJEITADO").build();
+
+        when(mapper.toDomainList(dtos)).thenReturn(clientes);
+        when(importarUseCase.execute(clientes)).thenReturn(List.of(importado, rejeitado));
+        when(mapper.toResponseDTO(importado)).thenReturn(importadoDTO);
+        when(mapper.toResponseDTO(rejeitado)).thenReturn(rejeitadoDTO);
+
+        // Act
+        ImportacaoResponseDTO response = clienteController.importar(dtos);
+
+        // Assert
+        assertEquals(2, response.getTotal());
+        assertEquals(1, response.getImportados());
+        assertEquals(1, response.getRejeitados());
+        assertEquals(List.of(importadoDTO, rejeitadoDTO), response.getItens());
+    }
+
+    @Test
+    void deveImportarClientesDeArquivoCsv() throws Exception {
+        // Arrange
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "clientes.csv", "text/csv",
+                "nome;cpf\nJoão Silva;12345678901\n".getBytes(StandardCharsets.UTF_8));
+        ItemImportacao importado = ItemImportacao.builder().linha(1).cpf("12345678901")
+                .status(StatusImportacao.IMPORTADO).id(1L).build();
+
+        when(mapper.toDomainList(any())).thenReturn(List.of(cliente));
+        when(importarUseCase.execute(List.of(cliente))).thenReturn(List.of(importado));
+        when(mapper.toResponseDTO(importado)).thenReturn(new ItemImportacaoResponseDTO());
+
+        // Act
+        ImportacaoResponseDTO response = clienteController.importarCsv(arquivo);
+
+        // Assert
+        assertEquals(1, response.getTotal());
+        assertEquals(1, response.getImportados());
+        verify(csvMapper).toRequestDTOs(any());
+        verify(mapper).toDomainList(List.of(ClienteRequestDTO.builder().nome("João Silva").cpf("12345678901").build()));
+    }
+
     @Test
     void deveAtualizarClienteComSucesso() {
         // Arrange
@@ -171,7 +430,7 @@ class ClienteControllerTest {
         when(mapper.toResponseDTO(clienteAtualizado)).thenReturn(clienteResponseDTO);
 
         // Act
-        ResponseEntity<ClienteResponseDTO> response = clienteController.atualizar(id, clienteRequestDTO);
+        ResponseEntity<ClienteResponseDTO> response = clienteController.atualizar(id, clienteRequestDTO, null);
 
         // Assert
         assertNotNull(response);
@@ -183,6 +442,147 @@ class ClienteControllerTest {
         verify(mapper).toResponseDTO(clienteAtualizado);
     }
 
+    @Test
+    void deveAtualizarParcialmenteCliente() {
+        // Arrange
+        Long id = 1L;
+        ClienteRequestDTO parcial = ClienteRequestDTO.builder().nome("João Silva Atualizado").build();
+        Cliente alteracoes = Cliente.builder().nome("João Silva Atualizado").build();
+        Cliente clienteAtualizado = createClienteAtualizado();
+
+        when(mapper.toDomain(parcial)).thenReturn(alteracoes);
+        when(atualizarParcialUseCase.execute(id, alteracoes)).thenReturn(clienteAtualizado);
+        when(mapper.toResponseDTO(clienteAtualizado)).thenReturn(clienteResponseDTO);
+
+        // Act
+        ResponseEntity<ClienteResponseDTO> response = clienteController.atualizarParcial(id, parcial, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(clienteResponseDTO, response.getBody());
+        verify(atualizarParcialUseCase).execute(id, alteracoes);
+        verifyNoInteractions(atualizarUseCase);
+    }
+
+    @Test
+    void deveRetornarEtagComIdEVersaoNaBuscaPorCpf() {
+        // Arrange
+        cliente.setId(1L);
+        cliente.setVersao(3L);
+        when(buscarPorCpfUseCase.execute("12345678901")).thenReturn(Optional.of(cliente));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+
+        // Act
+        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf("12345678901", webRequest);
+
+        // Assert
+        assertEquals("\"1-3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void deveResponderNotModifiedSemMapearCorpoQuandoEtagConferir() {
+        // Arrange
+        cliente.setId(1L);
+        cliente.setVersao(3L);
+        requisicao.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1-3\"");
+        when(buscarPorCpfUseCase.execute("12345678901")).thenReturn(Optional.of(cliente));
+
+        // Act
+        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf("12345678901", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("max-age=60", response.getHeaders().getCacheControl());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void deveEnviarLastModifiedECacheControlNaBuscaPorCpf() {
+        // Arrange
+        cliente.setId(1L);
+        cliente.setVersao(0L);
+        cliente.setAtualizadoEm(Instant.parse("2024-05-10T12:00:00.123Z"));
+        cacheHttpProperties.setMaxAge(Duration.ofMinutes(5));
+        when(buscarPorCpfUseCase.execute("12345678901")).thenReturn(Optional.of(cliente));
+        when(mapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
+
+        // Act
+        ResponseEntity<ClienteResponseDTO> response = clienteController.buscarPorCpf("12345678901", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Instant.parse("2024-05-10T12:00:00Z").toEpochMilli(), response.getHeaders().getLastModified());
+        assertEquals("max-age=300", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void deveResponderNotModifiedNaListagemQuandoNadaMudou() {
+        // Arrange
+        cliente.setVersao(0L);
+        Cliente outroCliente = createOutroCliente();
+        outroCliente.setVersao(2L);
+        when(listarUseCase.execute(null, 100)).thenReturn(Arrays.asList(cliente, outroCliente));
+        String etag = clienteController.listarTodos(null, 100, webRequest).getHeaders().getETag();
+
+        MockHttpServletRequest revalidacao = new MockHttpServletRequest("GET", "/clientes");
+        revalidacao.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        // Act
+        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarTodos(null, 100,
+                new ServletWebRequest(revalidacao, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void deveMudarEtagDaListagemQuandoUmClienteForAlterado() {
+        // Arrange
+        cliente.setVersao(0L);
+        when(listarUseCase.execute(null, 100)).thenReturn(List.of(cliente));
+        String antes = clienteController.listarTodos(null, 100, webRequest).getHeaders().getETag();
+        cliente.setVersao(1L);
+
+        // Act
+        String depois = clienteController.listarTodos(null, 100,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/clientes"), new MockHttpServletResponse()))
+                .getHeaders().getETag();
+
+        // Assert
+        assertNotEquals(antes, depois);
+    }
+
+    @Test
+    void deveRepassarVersaoDoIfMatchNaAtualizacao() {
+        // Arrange
+        Long id = 1L;
+        Cliente clienteAtualizado = createClienteAtualizado();
+        clienteAtualizado.setVersao(4L);
+        when(mapper.toDomain(clienteRequestDTO)).thenReturn(cliente);
+        when(atualizarUseCase.execute(id, cliente)).thenReturn(clienteAtualizado);
+        when(mapper.toResponseDTO(clienteAtualizado)).thenReturn(clienteResponseDTO);
+
+        // Act
+        ResponseEntity<ClienteResponseDTO> response = clienteController.atualizar(id, clienteRequestDTO, "\"1-3\"");
+
+        // Assert
+        assertEquals(3L, cliente.getVersao());
+        assertEquals("\"1-4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void deveRejeitarIfMatchDeOutroCliente() {
+        // Arrange
+        when(mapper.toDomain(clienteRequestDTO)).thenReturn(cliente);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> clienteController.atualizar(1L, clienteRequestDTO, "\"2-3\""));
+        verifyNoInteractions(atualizarUseCase);
+    }
+
     @Test
     void deveVerificarSeInteracoesEstaoCorretasNoCadastro() {
         // Arrange
@@ -208,7 +608,7 @@ class ClienteControllerTest {
         when(mapper.toResponseDTO(any(Cliente.class))).thenReturn(clienteResponseDTO);
 
         // Act
-        clienteController.buscarPorCpf(cpf);
+        clienteController.buscarPorCpf(cpf, webRequest);
 
         // Assert
         verify(buscarPorCpfUseCase, times(1)).execute(cpf);
@@ -227,7 +627,7 @@ class ClienteControllerTest {
         when(mapper.toResponseDTO(any(Cliente.class))).thenReturn(clienteResponseDTO);
 
         // Act
-        clienteController.atualizar(id, clienteRequestDTO);
+        clienteController.atualizar(id, clienteRequestDTO, null);
 
         // Assert
         verify(mapper, times(1)).toDomain(clienteRequestDTO);
@@ -0,0 +1,47 @@
+package com.fiap.cliente.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CpfTest {
+
+    @Test
+    void deveNormalizarCpfFormatado() {
+        assertThat(Cpf.normalizar("123.456.789-09")).isEqualTo("12345678909");
+        assertThat(Cpf.normalizar(" 123 456 789 09 ")).isEqualTo("12345678909");
+    }
+
+    @Test
+    void deveManterCpfQueJaEstaNormalizado() {
+        String cpf = "12345678909";
+
+        assertThat(Cpf.normalizar(cpf)).isSameAs(cpf);
+        assertThat(Cpf.normalizar(null)).isNull();
+    }
+
+    @Test
+    void deveConverterParaNumeroPreservandoZerosAEsquerdaNoTexto() {
+        assertThat(Cpf.numero("123.456.789-09")).isEqualTo(12345678909L);
+        assertThat(Cpf.numero("01234567890")).isEqualTo(1234567890L);
+    }
+
+    @Test
+    void deveRetornarNuloQuandoNaoHouverOnzeDigitos() {
+        assertThat(Cpf.numero(null)).isNull();
+        assertThat(Cpf.numero("")).isNull();
+        assertThat(Cpf.numero("1234567890")).isNull();
+        assertThat(Cpf.numero("123456789012")).isNull();
+    }
+
+    @Test
+    void deveRejeitarCpfSemOnzeDigitos() {
+        assertThat(Cpf.validar("123.456.789-09")).isEqualTo("123.456.789-09");
+        assertThatThrownBy(() -> Cpf.validar("1234567890"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CPF inválido!");
+        assertThatThrownBy(() -> Cpf.validar("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.validar(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -11,7 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -48,6 +51,47 @@ class GlobalExceptionHandlerTest {
         logger.setLevel(Level.DEBUG);
     }
 
+    @Test
+    void deveRetornarPreconditionFailedQuandoVersaoDesatualizada() {
+        // Given
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("versão 1 != 2");
+
+        // When
+        ResponseEntity<Object> response = globalExceptionHandler.handleOptimisticLockingFailureException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.get("status")).isEqualTo(412);
+        assertThat(body.get("error")).isEqualTo("Precondition Failed");
+        assertThat(listAppender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN);
+    }
+
+    @Test
+    void deveRetornarServiceUnavailableQuandoCapacidadeEsgotada() {
+        // Given
+        CapacidadeEsgotadaException exception = new CapacidadeEsgotadaException("Limite de assinantes atingido.");
+
+        // When
+        ResponseEntity<Object> response = globalExceptionHandler.handleCapacidadeEsgotadaException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.get("status")).isEqualTo(503);
+        assertThat(body.get("message")).isEqualTo("Limite de assinantes atingido.");
+    }
+
     @Test
     void deveRetornarBadRequestQuandoIllegalArgumentException() {
         // Given
@@ -0,0 +1,155 @@
+package com.fiap.cliente.gateway;
+
+import com.fiap.cliente.config.cache.CacheConfig;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// @MockBean não é suportado pelo Spring AOT (-PnativeTest)
+@SpringBootTest
+@ActiveProfiles("test")
+@DisabledInAotMode
+class ClienteGatewayCacheTest {
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ClienteRepository repository;
+
+    private ClienteEntity clienteEntity;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF).clear();
+        clienteEntity = ClienteEntity.builder()
+                .id(1L)
+                .nome("João Silva")
+                .cpf("12345678901")
+                .build();
+    }
+
+    @Test
+    void deveServirBuscasRepetidasPorCpfAPartirDoCache() {
+        // Given
+        when(repository.findByCpfNumero(12345678901L)).thenReturn(Optional.of(clienteEntity));
+        CacheStats antes = caffeine().stats();
+
+        // When
+        Optional<Cliente> primeira = gateway.buscarPorCpf("12345678901");
+        Optional<Cliente> segunda = gateway.buscarPorCpf("12345678901");
+
+        // Then
+        assertThat(primeira).isPresent();
+        assertThat(segunda).contains(primeira.get());
+        verify(repository, times(1)).findByCpfNumero(12345678901L);
+
+        CacheStats stats = caffeine().stats().minus(antes);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deveGuardarCpfInexistenteNoCache() {
+        // Given
+        when(repository.findByCpfNumero(99999999999L)).thenReturn(Optional.empty());
+
+        // When
+        gateway.buscarPorCpf("99999999999");
+        Optional<Cliente> resultado = gateway.buscarPorCpf("99999999999");
+
+        // Then
+        assertThat(resultado).isEmpty();
+        verify(repository, times(1)).findByCpfNumero(99999999999L);
+    }
+
+    @Test
+    void deveInvalidarCpfAoSalvarCliente() {
+        // Given
+        when(repository.findByCpfNumero(12345678901L)).thenReturn(Optional.empty(), Optional.of(clienteEntity));
+        when(repository.saveAndFlush(any(ClienteEntity.class))).thenReturn(clienteEntity);
+
+        // When
+        assertThat(gateway.buscarPorCpf("12345678901")).isEmpty();
+        gateway.salvar(Cliente.builder().nome("João Silva").cpf("12345678901").build());
+        Optional<Cliente> resultado = gateway.buscarPorCpf("12345678901");
+
+        // Then
+        assertThat(resultado).isPresent();
+        verify(repository, times(2)).findByCpfNumero(12345678901L);
+    }
+
+    @Test
+    void deveAproveitarBuscaEmLoteNasBuscasIndividuaisPorCpf() {
+        // Given
+        when(repository.findByCpfNumeroIn(List.of(12345678901L, 99999999999L))).thenReturn(List.of(clienteEntity));
+
+        // When
+        Map<String, Cliente> lote = gateway.buscarPorCpfs(List.of("12345678901", "99999999999"));
+        Optional<Cliente> encontrado = gateway.buscarPorCpf("12345678901");
+        Optional<Cliente> inexistente = gateway.buscarPorCpf("99999999999");
+
+        // Then
+        assertThat(lote).containsOnlyKeys("12345678901");
+        assertThat(encontrado).contains(lote.get("12345678901"));
+        assertThat(inexistente).isEmpty();
+        verify(repository, never()).findByCpfNumero(any());
+    }
+
+    @Test
+    void deveCompartilharCacheEntreCpfFormatadoENormalizado() {
+        // Given
+        when(repository.findByCpfNumero(12345678901L)).thenReturn(Optional.of(clienteEntity));
+
+        // When
+        Optional<Cliente> formatado = gateway.buscarPorCpf("123.456.789-01");
+        Optional<Cliente> normalizado = gateway.buscarPorCpf("12345678901");
+        Map<String, Cliente> lote = gateway.buscarPorCpfs(List.of("123.456.789-01"));
+
+        // Then
+        assertThat(normalizado).isPresent().isEqualTo(formatado);
+        assertThat(lote).containsOnlyKeys("123.456.789-01");
+        verify(repository, times(1)).findByCpfNumero(12345678901L);
+    }
+
+    @Test
+    void naoDeveConsultarBancoParaCpfInvalido() {
+        // When
+        Optional<Cliente> resultado = gateway.buscarPorCpf("123");
+
+        // Then
+        assertThat(resultado).isEmpty();
+        verify(repository, never()).findByCpfNumero(any());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine() {
+        TransactionAwareCacheDecorator decorator =
+                (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF);
+        return ((CaffeineCache) decorator.getTargetCache()).getNativeCache();
+    }
+}
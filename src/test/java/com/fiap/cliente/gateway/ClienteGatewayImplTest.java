@@ -2,25 +2,57 @@ package com.fiap.cliente.gateway;
 
 import com.fiap.cliente.domain.Cliente;
 import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.gateway.cache.InvalidacaoCacheClientes;
 import com.fiap.cliente.gateway.entity.ClienteEntity;
 import com.fiap.cliente.gateway.entity.EnderecoEmbeddable;
+import com.fiap.cliente.gateway.indice.FiltroCpfClientes;
+import com.fiap.cliente.gateway.indice.IndiceCpfClientes;
 import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.gateway.sincronizacao.PrazoGravacaoAlteracoes;
+import com.fiap.cliente.gateway.stream.DifusorAlteracoesClientes;
 import com.fiap.cliente.mapper.ClienteMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ClienteGatewayImplTest {
@@ -31,6 +63,30 @@ class ClienteGatewayImplTest {
     @Mock
     private ClienteMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private IndiceCpfClientes indiceCpf;
+
+    @Mock
+    private FiltroCpfClientes filtroCpf;
+
+    @Mock
+    private InvalidacaoCacheClientes invalidacao;
+
+    @Mock
+    private DifusorAlteracoesClientes difusor;
+
+    @Mock
+    private PrazoGravacaoAlteracoes prazoGravacao;
+
     @InjectMocks
     private ClienteGatewayImpl clienteGateway;
 
@@ -78,7 +134,7 @@ class ClienteGatewayImplTest {
     void deveRetornarClienteSalvoComSucesso() {
         // Given
         when(mapper.toEntity(cliente)).thenReturn(clienteEntity);
-        when(repository.save(clienteEntity)).thenReturn(clienteEntity);
+        when(repository.saveAndFlush(clienteEntity)).thenReturn(clienteEntity);
         when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
 
         // When
@@ -93,8 +149,9 @@ class ClienteGatewayImplTest {
         assertThat(resultado.getEndereco()).isNotNull();
         assertThat(resultado.getEndereco().getRua()).isEqualTo("Rua das Flores");
 
+        verify(difusor).publicarAposCommit(cliente, null);
         verify(mapper).toEntity(cliente);
-        verify(repository).save(clienteEntity);
+        verify(repository).saveAndFlush(clienteEntity);
         verify(mapper).toDomain(clienteEntity);
     }
 
@@ -102,7 +159,7 @@ class ClienteGatewayImplTest {
     void deveRetornarClienteQuandoBuscarPorCpfExistente() {
         // Given
         String cpf = "12345678901";
-        when(repository.findByCpf(cpf)).thenReturn(Optional.of(clienteEntity));
+        when(repository.findByCpfNumero(Long.valueOf(cpf))).thenReturn(Optional.of(clienteEntity));
         when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
 
         // When
@@ -114,7 +171,7 @@ class ClienteGatewayImplTest {
         assertThat(resultado.get().getNome()).isEqualTo("João Silva");
         assertThat(resultado.get().getDataNascimento()).isEqualTo(LocalDate.of(1990, 5, 15));
 
-        verify(repository).findByCpf(cpf);
+        verify(repository).findByCpfNumero(Long.valueOf(cpf));
         verify(mapper).toDomain(clienteEntity);
     }
 
@@ -122,7 +179,7 @@ class ClienteGatewayImplTest {
     void deveRetornarOptionalVazioQuandoBuscarPorCpfInexistente() {
         // Given
         String cpf = "99999999999";
-        when(repository.findByCpf(cpf)).thenReturn(Optional.empty());
+        when(repository.findByCpfNumero(Long.valueOf(cpf))).thenReturn(Optional.empty());
 
         // When
         Optional<Cliente> resultado = clienteGateway.buscarPorCpf(cpf);
@@ -130,7 +187,7 @@ class ClienteGatewayImplTest {
         // Then
         assertThat(resultado).isEmpty();
 
-        verify(repository).findByCpf(cpf);
+        verify(repository).findByCpfNumero(Long.valueOf(cpf));
     }
 
     @Test
@@ -273,8 +330,9 @@ class ClienteGatewayImplTest {
                 .endereco(enderecoEmbeddableAtualizado)
                 .build();
 
-        when(mapper.toEntity(clienteAtualizado)).thenReturn(entityAtualizada);
-        when(repository.save(entityAtualizada)).thenReturn(entityAtualizada);
+        when(repository.findById(1L)).thenReturn(Optional.of(entityAtualizada));
+        when(cacheManager.getCache("clientesPorCpf")).thenReturn(cache);
+        when(repository.saveAndFlush(entityAtualizada)).thenReturn(entityAtualizada);
         when(mapper.toDomain(entityAtualizada)).thenReturn(clienteAtualizado);
 
         // When
@@ -289,8 +347,325 @@ class ClienteGatewayImplTest {
         assertThat(resultado.getEndereco().getRua()).isEqualTo("Rua Nova");
         assertThat(resultado.getEndereco().getCidade()).isEqualTo("Rio de Janeiro");
 
-        verify(mapper).toEntity(clienteAtualizado);
-        verify(repository).save(entityAtualizada);
+        verify(mapper).atualizarEntity(clienteAtualizado, entityAtualizada);
+        verify(mapper, never()).toEntity(any(Cliente.class));
+        verify(repository).saveAndFlush(entityAtualizada);
         verify(mapper).toDomain(entityAtualizada);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveBuscarPaginaAPartirDoCursorInformado() {
+        // Given
+        when(repository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(50))).thenReturn(List.of(clienteEntity));
+        when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
+
+        // When
+        List<Cliente> resultado = clienteGateway.listarPagina(1L, 50);
+
+        // Then
+        assertThat(resultado).containsExactly(cliente);
+
+        verify(repository).findByIdGreaterThanOrderByIdAsc(1L, Limit.of(50));
+    }
+
+    @Test
+    void deveBuscarPrimeiraPaginaQuandoCursorForNulo() {
+        // Given
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10))).thenReturn(List.of());
+
+        // When
+        List<Cliente> resultado = clienteGateway.listarPagina(null, 10);
+
+        // Then
+        assertThat(resultado).isEmpty();
+
+        verify(repository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10));
+    }
+
+    @Test
+    void devePercorrerTodosOsClientesDesanexandoCadaEntidade() {
+        // Given
+        ClienteEntity segundaEntity = ClienteEntity.builder().id(2L).cpf("98765432100").build();
+        Cliente segundoCliente = Cliente.builder().id(2L).cpf("98765432100").build();
+        when(repository.streamAllOrderById()).thenReturn(Stream.of(clienteEntity, segundaEntity));
+        when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
+        when(mapper.toDomain(segundaEntity)).thenReturn(segundoCliente);
+        Session sessao = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(sessao);
+        when(sessao.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        List<Cliente> recebidos = new ArrayList<>();
+
+        // When
+        clienteGateway.percorrerTodos(recebidos::add);
+
+        // Then
+        assertThat(recebidos).containsExactly(cliente, segundoCliente);
+
+        verify(entityManager).detach(clienteEntity);
+        verify(entityManager).detach(segundaEntity);
+        verify(sessao).setCacheMode(CacheMode.IGNORE);
+        verify(sessao).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void deveInvalidarCacheDoCpfAnteriorQuandoAtualizar() {
+        // Given
+        ClienteEntity entityComCpfAnterior = ClienteEntity.builder().id(1L).cpf("11122233344").build();
+        when(repository.findById(1L)).thenReturn(Optional.of(entityComCpfAnterior));
+        when(cacheManager.getCache("clientesPorCpf")).thenReturn(cache);
+        when(repository.saveAndFlush(entityComCpfAnterior)).thenReturn(entityComCpfAnterior);
+        when(mapper.toDomain(entityComCpfAnterior)).thenReturn(cliente);
+
+        // When
+        Cliente resultado = clienteGateway.atualizar(cliente);
+
+        // Then
+        assertThat(resultado).isEqualTo(cliente);
+
+        verify(cache).evict("11122233344");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoClienteAtualizadoNaoExistir() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> clienteGateway.atualizar(cliente))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cliente não encontrado!");
+        verify(repository, never()).saveAndFlush(any());
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoVersaoEsperadaDivergirDaAtual() {
+        // Given
+        cliente.setVersao(1L);
+        clienteEntity.setVersao(2L);
+        when(repository.findById(1L)).thenReturn(Optional.of(clienteEntity));
+
+        // When & Then
+        assertThatThrownBy(() -> clienteGateway.atualizar(cliente))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(mapper, never()).atualizarEntity(any(), any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void deveTraduzirViolacaoDeUnicidadeDoCpfEmDuplicateKeyException() {
+        // Given
+        DataIntegrityViolationException violacao = new DataIntegrityViolationException("unique",
+                new SQLException("duplicate key value violates unique constraint", "23505"));
+        when(mapper.toEntity(cliente)).thenReturn(clienteEntity);
+        when(repository.saveAndFlush(clienteEntity)).thenThrow(violacao);
+
+        // When & Then
+        assertThatThrownBy(() -> clienteGateway.salvar(cliente))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasCause(violacao);
+    }
+
+    @Test
+    void deveRepassarOutrasViolacoesDeIntegridade() {
+        // Given
+        DataIntegrityViolationException violacao = new DataIntegrityViolationException("not null",
+                new SQLException("null value in column", "23502"));
+        when(mapper.toEntity(cliente)).thenReturn(clienteEntity);
+        when(repository.saveAndFlush(clienteEntity)).thenThrow(violacao);
+
+        // When & Then
+        assertThatThrownBy(() -> clienteGateway.salvar(cliente))
+                .isSameAs(violacao);
+    }
+
+    @Test
+    void deveSalvarTodosEmLotesInvalidandoCpfsNoCache() {
+        // Given
+        List<Cliente> clientes = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            clientes.add(cliente);
+        }
+        when(cacheManager.getCache("clientesPorCpf")).thenReturn(cache);
+        when(mapper.toEntity(cliente)).thenReturn(clienteEntity);
+        when(repository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
+
+        // When
+        List<Cliente> resultado = clienteGateway.salvarTodos(clientes);
+
+        // Then
+        assertThat(resultado).hasSize(501);
+
+        verify(repository, times(2)).saveAllAndFlush(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(cache, times(501)).evict("12345678901");
+    }
+
+    @Test
+    void deveBuscarCpfsExistentesEmLotes() {
+        // Given
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+        when(repository.findCpfNumeroByCpfNumeroIn(LongStream.range(0, 1000).boxed().toList())).thenReturn(List.of(7L));
+        when(repository.findCpfNumeroByCpfNumeroIn(LongStream.range(1000, 1500).boxed().toList())).thenReturn(List.of(1499L));
+
+        // When
+        Set<String> existentes = clienteGateway.buscarCpfsExistentes(cpfs);
+
+        // Then
+        assertThat(existentes).containsExactlyInAnyOrder("00000000007", "00000001499");
+    }
+
+    @Test
+    void deveBuscarPorCpfsUsandoCacheEConsultandoApenasOsAusentes() {
+        // Given
+        Cliente emCache = Cliente.builder().id(3L).cpf("11122233344").build();
+        when(cacheManager.getCache("clientesPorCpf")).thenReturn(cache);
+        when(cache.get("11122233344")).thenReturn(new SimpleValueWrapper(emCache));
+        when(cache.get("55566677788")).thenReturn(new SimpleValueWrapper(null));
+        when(cache.get("12345678901")).thenReturn(null);
+        when(cache.get("99999999999")).thenReturn(null);
+        when(repository.findByCpfNumeroIn(List.of(12345678901L, 99999999999L))).thenReturn(List.of(clienteEntity));
+        when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
+
+        // When
+        Map<String, Cliente> resultado = clienteGateway.buscarPorCpfs(
+                List.of("11122233344", "55566677788", "12345678901", "99999999999"));
+
+        // Then
+        assertThat(resultado).containsOnly(
+                Map.entry("11122233344", emCache),
+                Map.entry("12345678901", cliente));
+
+        verify(repository).findByCpfNumeroIn(List.of(12345678901L, 99999999999L));
+        verify(cache).put("12345678901", cliente);
+        verify(cache).put("99999999999", null);
+    }
+
+    @Test
+    void deveResponderCpfAusenteDoIndiceSemConsultarORepositorio() {
+        // Given
+        when(indiceCpf.disponivel()).thenReturn(true);
+        when(indiceCpf.idPorCpf(99999999999L)).thenReturn(OptionalLong.empty());
+
+        // When
+        Optional<Cliente> resultado = clienteGateway.buscarPorCpf("999.999.999-99");
+
+        // Then
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveBuscarPelaChavePrimariaQuandoCpfEstiverNoIndice() {
+        // Given
+        clienteEntity.setCpfNumero(12345678901L);
+        when(indiceCpf.disponivel()).thenReturn(true);
+        when(indiceCpf.idPorCpf(12345678901L)).thenReturn(OptionalLong.of(1L));
+        when(repository.findById(1L)).thenReturn(Optional.of(clienteEntity));
+        when(mapper.toDomain(clienteEntity)).thenReturn(cliente);
+
+        // When
+        Optional<Cliente> resultado = clienteGateway.buscarPorCpf("12345678901");
+
+        // Then
+        assertThat(resultado).contains(cliente);
+        verify(repository, never()).findByCpfNumero(anyLong());
+    }
+
+    @Test
+    void deveIgnorarEntradaDoIndiceQueApontaParaClienteComOutroCpf() {
+        // Given
+        clienteEntity.setCpfNumero(11122233344L);
+        when(indiceCpf.disponivel()).thenReturn(true);
+        when(indiceCpf.idPorCpf(12345678901L)).thenReturn(OptionalLong.of(1L));
+        when(repository.findById(1L)).thenReturn(Optional.of(clienteEntity));
+
+        // When
+        Optional<Cliente> resultado = clienteGateway.buscarPorCpf("12345678901");
+
+        // Then
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void deveConsultarApenasCpfsPresentesNoIndiceAoBuscarExistentes() {
+        // Given
+        when(indiceCpf.disponivel()).thenReturn(true);
+        when(indiceCpf.idPorCpf(anyLong())).thenReturn(OptionalLong.empty());
+        when(indiceCpf.idPorCpf(12345678901L)).thenReturn(OptionalLong.of(1L));
+        when(repository.findCpfNumeroByCpfNumeroIn(List.of(12345678901L))).thenReturn(List.of(12345678901L));
+
+        // When
+        Set<String> existentes = clienteGateway.buscarCpfsExistentes(List.of("12345678901", "99999999999"));
+
+        // Then
+        assertThat(existentes).containsExactly("12345678901");
+    }
+
+    @Test
+    void deveManterIndiceAoSalvarEAoTrocarCpf() {
+        // Given
+        ClienteEntity entityComCpfAnterior = ClienteEntity.builder().id(1L).cpf("11122233344").cpfNumero(11122233344L).build();
+        when(repository.findById(1L)).thenReturn(Optional.of(entityComCpfAnterior));
+        when(cacheManager.getCache("clientesPorCpf")).thenReturn(cache);
+        doAnswer(invocation -> {
+            entityComCpfAnterior.setCpf("12345678901");
+            entityComCpfAnterior.setCpfNumero(12345678901L);
+            return null;
+        }).when(mapper).atualizarEntity(cliente, entityComCpfAnterior);
+        when(repository.saveAndFlush(entityComCpfAnterior)).thenReturn(entityComCpfAnterior);
+
+        // When
+        clienteGateway.atualizar(cliente);
+
+        // Then
+        verify(indiceCpf).registrar(12345678901L, 1L);
+        verify(indiceCpf).removerAposCommit(11122233344L, 1L);
+        verify(invalidacao).publicarAposCommit(List.of(1L), Arrays.asList("11122233344", "12345678901"), true, true);
+        verify(difusor).publicarAposCommit(any(), eq("11122233344"));
+    }
+
+    @Test
+    void deveResponderCpfDescartadoPeloFiltroSemConsultarORepositorio() {
+        // Given
+        when(filtroCpf.certamenteAusente(99999999999L)).thenReturn(true);
+
+        // When
+        Optional<Cliente> resultado = clienteGateway.buscarPorCpf("99999999999");
+
+        // Then
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveContarFalsoPositivoQuandoCpfQuePassouPeloFiltroNaoExistir() {
+        // Given
+        when(repository.findByCpfNumero(99999999999L)).thenReturn(Optional.empty());
+
+        // When
+        clienteGateway.buscarPorCpf("99999999999");
+
+        // Then
+        verify(filtroCpf).registrarFalsosPositivos(1);
+    }
+
+    @Test
+    void deveRegistrarCpfNoFiltroAoSalvar() {
+        // Given
+        clienteEntity.setCpfNumero(12345678901L);
+        when(mapper.toEntity(cliente)).thenReturn(clienteEntity);
+        when(repository.saveAndFlush(clienteEntity)).thenReturn(clienteEntity);
+
+        // When
+        clienteGateway.salvar(cliente);
+
+        // Then
+        verify(filtroCpf).registrar(12345678901L);
+    }
+}
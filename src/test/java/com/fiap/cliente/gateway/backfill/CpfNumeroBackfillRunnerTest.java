@@ -0,0 +1,87 @@
+package com.fiap.cliente.gateway.backfill;
+
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CpfNumeroBackfillRunnerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CpfNumeroBackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/reactive/schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        runner = new CpfNumeroBackfillRunner(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @Test
+    void deveNormalizarCpfEPreencherNumeroDasLinhasAntigas() {
+        // Given
+        inserirLegado(1, "123.456.789-09");
+        inserirLegado(2, "01234567890");
+        long marca = SequenciaAlteracaoGenerator.proxima();
+
+        // When
+        int migrados = runner.executar();
+
+        // Then
+        assertThat(migrados).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT cpf FROM clientes WHERE cpf_numero = 12345678909", String.class))
+                .isEqualTo("12345678909");
+        assertThat(jdbcTemplate.queryForObject("SELECT cpf FROM clientes WHERE cpf_numero = 1234567890", String.class))
+                .isEqualTo("01234567890");
+        assertThat(jdbcTemplate.queryForObject("SELECT versao FROM clientes WHERE id = 1", Long.class)).isEqualTo(1L);
+        // Quem já tem uma marca d'água recebe o CPF normalizado em GET /clientes/changes
+        assertThat(jdbcTemplate.queryForObject("SELECT sequencia_alteracao FROM clientes WHERE id = 1", Long.class))
+                .isGreaterThan(marca);
+    }
+
+    @Test
+    void deveIgnorarCpfInvalidoEConflitoSemPerderORestoDoLote() {
+        // Given
+        inserirLegado(1, "111.222.333-44");
+        inserirLegado(2, "11122233344");
+        inserirLegado(3, "não informado");
+        inserirLegado(4, "98765432100");
+
+        // When
+        int migrados = runner.executar();
+
+        // Then
+        assertThat(migrados).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM clientes WHERE cpf_numero IS NULL ORDER BY id", Long.class))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void devePercorrerMaisDeUmLote() {
+        // Given
+        for (int i = 1; i <= CpfNumeroBackfillRunner.TAMANHO_LOTE + 5; i++) {
+            inserirLegado(i, String.format("%011d", i));
+        }
+
+        // When & Then
+        assertThat(runner.executar()).isEqualTo(CpfNumeroBackfillRunner.TAMANHO_LOTE + 5);
+        assertThat(runner.executar()).isZero();
+    }
+
+    private void inserirLegado(long id, String cpf) {
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf, versao) VALUES (?, 'Legado', ?, 0)", id, cpf);
+    }
+}
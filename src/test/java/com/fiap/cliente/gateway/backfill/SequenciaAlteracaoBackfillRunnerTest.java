@@ -0,0 +1,72 @@
+package com.fiap.cliente.gateway.backfill;
+
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenciaAlteracaoBackfillRunnerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SequenciaAlteracaoBackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/reactive/schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        runner = new SequenciaAlteracaoBackfillRunner(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @Test
+    void devePreencherASequenciaSoDasLinhasSemElaPreservandoAsDemais() {
+        // Given
+        long marca = SequenciaAlteracaoGenerator.proxima();
+        inserir(1, null);
+        inserir(2, 42L);
+        inserir(3, null);
+
+        // When
+        int preenchidos = runner.executar();
+
+        // Then
+        assertThat(preenchidos).isEqualTo(2);
+        List<Long> sequencias = jdbcTemplate.queryForList(
+                "SELECT sequencia_alteracao FROM clientes WHERE id IN (1, 3) ORDER BY id", Long.class);
+        assertThat(sequencias).allMatch(sequencia -> sequencia > marca).isSorted().doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject("SELECT sequencia_alteracao FROM clientes WHERE id = 2", Long.class))
+                .isEqualTo(42L);
+        assertThat(runner.executar()).isZero();
+    }
+
+    @Test
+    void devePercorrerMaisDeUmLote() {
+        // Given
+        for (int i = 1; i <= SequenciaAlteracaoBackfillRunner.TAMANHO_LOTE + 5; i++) {
+            inserir(i, null);
+        }
+
+        // When & Then
+        assertThat(runner.executar()).isEqualTo(SequenciaAlteracaoBackfillRunner.TAMANHO_LOTE + 5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clientes WHERE sequencia_alteracao IS NULL",
+                Long.class)).isZero();
+    }
+
+    private void inserir(long id, Long sequencia) {
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf, versao, sequencia_alteracao) "
+                + "VALUES (?, 'Legado', ?, 0, ?)", id, String.format("%011d", id), sequencia);
+    }
+}
@@ -0,0 +1,121 @@
+package com.fiap.cliente.gateway.cache;
+
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidacaoCacheClientesTest {
+
+    @Mock
+    private CacheManager cacheManagerLocal;
+
+    @Mock
+    private CacheManager cacheManagerRemoto;
+
+    @Mock
+    private Cache cacheRemoto;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactoryLocal;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactoryRemoto;
+
+    @Mock
+    private jakarta.persistence.Cache cacheJpaRemoto;
+
+    @Mock
+    private org.hibernate.Cache segundoNivelRemoto;
+
+    private InvalidacaoCacheClientes local;
+
+    @BeforeEach
+    void setUp() {
+        // Duas "instâncias" ligadas pelo mesmo transporte em memória
+        TransporteInvalidacao transporte = new TransporteInvalidacaoLocal();
+        local = new InvalidacaoCacheClientes(transporte, cacheManagerLocal, entityManagerFactoryLocal);
+        InvalidacaoCacheClientes remoto = new InvalidacaoCacheClientes(transporte, cacheManagerRemoto, entityManagerFactoryRemoto);
+        local.assinar();
+        remoto.assinar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveInvalidarCachesDasOutrasInstanciasMasNaoDaOrigem() {
+        // Given
+        prepararRemoto();
+
+        // When
+        local.publicarAposCommit(List.of(1L), List.of("11122233344", "12345678901"), true, true);
+
+        // Then
+        verify(cacheRemoto).evict("11122233344");
+        verify(cacheRemoto).evict("12345678901");
+        verify(segundoNivelRemoto).evictEntityData(ClienteEntity.class, 1L);
+        verify(segundoNivelRemoto).evictNaturalIdData(ClienteEntity.class);
+        verifyNoInteractions(cacheManagerLocal, entityManagerFactoryLocal);
+    }
+
+    @Test
+    void deveManterResolucoesDeCpfQuandoNenhumCpfMudou() {
+        // Given
+        prepararRemoto();
+
+        // When
+        local.publicarAposCommit(List.of(1L, 2L), List.of("11122233344", "12345678901"), false, false);
+
+        // Then
+        verify(segundoNivelRemoto).evictEntityData(ClienteEntity.class, 2L);
+        verify(segundoNivelRemoto, never()).evictNaturalIdData(ClienteEntity.class);
+    }
+
+    @Test
+    void devePublicarSomenteDepoisDoCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        local.publicarAposCommit(List.of(1L), List.of("11122233344"), false, true);
+
+        // Then
+        verifyNoInteractions(cacheManagerRemoto);
+
+        // Given
+        prepararRemoto();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        verify(cacheRemoto).evict("11122233344");
+    }
+
+    private void prepararRemoto() {
+        when(cacheManagerRemoto.getCache("clientesPorCpf")).thenReturn(cacheRemoto);
+        when(entityManagerFactoryRemoto.getCache()).thenReturn(cacheJpaRemoto);
+        when(cacheJpaRemoto.unwrap(org.hibernate.Cache.class)).thenReturn(segundoNivelRemoto);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fiap.cliente.gateway.indice;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FiltroBloomCpfTest {
+
+    @Test
+    void naoDeveTerFalsosNegativos() {
+        // Given
+        FiltroBloomCpf filtro = new FiltroBloomCpf(100_000, 0.01);
+
+        // When
+        for (long cpf = 10_000_000_000L; cpf < 10_000_100_000L; cpf++) {
+            filtro.adicionar(cpf);
+        }
+
+        // Then
+        for (long cpf = 10_000_000_000L; cpf < 10_000_100_000L; cpf++) {
+            assertThat(filtro.talvezContenha(cpf)).isTrue();
+        }
+    }
+
+    @Test
+    void deveManterATaxaDeFalsosPositivosProximaDaConfigurada() {
+        // Given
+        FiltroBloomCpf filtro = new FiltroBloomCpf(100_000, 0.01);
+        for (long cpf = 10_000_000_000L; cpf < 10_000_100_000L; cpf++) {
+            filtro.adicionar(cpf);
+        }
+
+        // When
+        int falsosPositivos = 0;
+        for (long cpf = 20_000_000_000L; cpf < 20_000_100_000L; cpf++) {
+            if (filtro.talvezContenha(cpf)) {
+                falsosPositivos++;
+            }
+        }
+
+        // Then
+        assertThat(falsosPositivos / 100_000.0).isLessThan(0.015);
+        assertThat(filtro.taxaFalsosPositivosEstimada()).isBetween(0.005, 0.015);
+        assertThat(filtro.funcoes()).isEqualTo(7);
+        assertThat(filtro.bytes()).isBetween(110_000L, 130_000L);
+    }
+
+    @Test
+    void deveRecusarParametrosInvalidos() {
+        // When & Then
+        assertThatThrownBy(() -> new FiltroBloomCpf(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FiltroBloomCpf(1000, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.fiap.cliente.gateway.indice;
+
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacaoLocal;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.gateway.repository.CpfIdProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FiltroCpfClientesTest {
+
+    @Mock
+    private ClienteRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry registry;
+    private FiltroCpfProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new FiltroCpfProperties();
+        properties.setHabilitado(true);
+        properties.setCapacidade(1000);
+    }
+
+    @Test
+    void deveDescartarCpfsDesconhecidosDepoisDaCargaEContarNasMetricas() {
+        // Given
+        when(repository.count()).thenReturn(1L);
+        when(repository.streamCpfIds()).thenReturn(Stream.of(new CpfIdProjection(12345678901L, 1L)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        FiltroCpfClientes filtro = new FiltroCpfClientes(repository, transactionTemplate, properties, registry,
+                new TransporteInvalidacaoLocal(), "");
+        assertThat(filtro.certamenteAusente(99999999999L)).isFalse();
+
+        // When
+        filtro.carregar();
+        filtro.registrar(11122233344L);
+
+        // Then
+        assertThat(filtro.certamenteAusente(12345678901L)).isFalse();
+        assertThat(filtro.certamenteAusente(11122233344L)).isFalse();
+        assertThat(filtro.certamenteAusente(99999999999L)).isTrue();
+        filtro.registrarFalsosPositivos(2);
+        assertThat(registry.get(FiltroCpfClientes.METRICA).tag("resultado", "ausente").counter().count()).isEqualTo(1);
+        assertThat(registry.get(FiltroCpfClientes.METRICA).tag("resultado", "falso_positivo").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get(FiltroCpfClientes.METRICA + ".fpp.estimada").gauge().value()).isGreaterThan(0);
+    }
+
+    @Test
+    void naoDeveDescartarNadaQuandoDesligado() {
+        // Given
+        properties.setHabilitado(false);
+        FiltroCpfClientes filtro = new FiltroCpfClientes(repository, transactionTemplate, properties, registry,
+                new TransporteInvalidacaoLocal(), "");
+
+        // When
+        filtro.carregar();
+        filtro.registrar(12345678901L);
+
+        // Then
+        assertThat(filtro.certamenteAusente(99999999999L)).isFalse();
+        verifyNoInteractions(repository, transactionTemplate);
+    }
+
+    @Test
+    void deveFalharNaSubidaComMaisDeUmaInstanciaEscrevendo() {
+        // Given
+        TransporteInvalidacao transporteEntreInstancias = mock(TransporteInvalidacao.class);
+
+        // When & Then
+        assertThatThrownBy(() -> new FiltroCpfClientes(repository, transactionTemplate, properties, registry,
+                transporteEntreInstancias, ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cliente.filtro-cpf.habilitado");
+        assertThatThrownBy(() -> new FiltroCpfClientes(repository, transactionTemplate, properties, registry,
+                new TransporteInvalidacaoLocal(), "jdbc:postgresql://replica:5432/postgres"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cliente.datasource.replicas");
+    }
+
+    @Test
+    void devePermitirMaisDeUmaInstanciaQuandoDesligado() {
+        // Given
+        properties.setHabilitado(false);
+
+        // When
+        FiltroCpfClientes filtro = new FiltroCpfClientes(repository, transactionTemplate, properties, registry,
+                mock(TransporteInvalidacao.class), "jdbc:postgresql://replica:5432/postgres");
+
+        // Then
+        assertThat(filtro.certamenteAusente(12345678901L)).isFalse();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fiap.cliente.gateway.indice;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "cliente.indice-cpf.habilitado=true")
+@ActiveProfiles("test")
+class IndiceCpfClientesIntegrationTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Autowired
+    private IndiceCpfClientes indiceCpf;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setUp() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deveResponderCpfInexistenteSemIrAoBanco() {
+        // Given
+        assertThat(indiceCpf.disponivel()).isTrue();
+        estatisticas.clear();
+
+        // When & Then
+        assertThat(gateway.buscarPorCpf(novoCpf())).isEmpty();
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void deveBuscarPelaChavePrimariaEAcompanharATrocaDeCpf() {
+        // Given
+        String cpf = novoCpf();
+        String novoCpf = novoCpf();
+        Cliente salvo = gateway.salvar(Cliente.builder().nome("Maria Souza").cpf(cpf).build());
+        estatisticas.clear();
+
+        // When
+        assertThat(gateway.buscarPorCpf(cpf)).get().extracting(Cliente::getId).isEqualTo(salvo.getId());
+
+        // Then: leitura por id (servida pelo cache de segundo nível), sem consulta pelo CPF
+        assertThat(estatisticas.getQueryExecutionCount()).isZero();
+        assertThat(estatisticas.getNaturalIdQueryExecutionCount()).isZero();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+
+        // When
+        salvo.setCpf(novoCpf);
+        salvo.setVersao(null);
+        gateway.atualizar(salvo);
+
+        // Then
+        assertThat(gateway.buscarPorCpf(cpf)).isEmpty();
+        assertThat(gateway.buscarPorCpf(novoCpf)).get().extracting(Cliente::getId).isEqualTo(salvo.getId());
+        assertThat(indiceCpf.idPorCpf(Long.parseLong(cpf))).isEmpty();
+    }
+
+    @Test
+    void deveCarregarClientesGravadosForaDoGateway() {
+        // Given
+        String cpf = novoCpf();
+        long id = 900_000_000L + SEQUENCIA.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf, cpf_numero, versao) VALUES (?, ?, ?, ?, 0)",
+                id, "Carga Inicial", cpf, Long.parseLong(cpf));
+        assertThat(indiceCpf.idPorCpf(Long.parseLong(cpf))).isEmpty();
+
+        // When
+        indiceCpf.carregar();
+
+        // Then
+        assertThat(indiceCpf.idPorCpf(Long.parseLong(cpf))).hasValue(id);
+        assertThat(gateway.buscarPorCpf(cpf)).get().extracting(Cliente::getNome).isEqualTo("Carga Inicial");
+    }
+
+    private static String novoCpf() {
+        return String.format("%011d", 50_000_000_000L + SEQUENCIA.incrementAndGet());
+    }
+}
@@ -0,0 +1,99 @@
+package com.fiap.cliente.gateway.indice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndiceCpfTest {
+
+    @Test
+    void deveRegistrarBuscarESobrescrever() {
+        // Given
+        IndiceCpf indice = new IndiceCpf();
+
+        // When
+        indice.registrar(12345678901L, 1L);
+        indice.registrar(0L, 2L);
+        indice.registrar(12345678901L, 3L);
+
+        // Then
+        assertThat(indice.buscar(12345678901L)).isEqualTo(3L);
+        assertThat(indice.buscar(0L)).isEqualTo(2L);
+        assertThat(indice.buscar(99999999999L)).isEqualTo(IndiceCpf.AUSENTE);
+        assertThat(indice.tamanho()).isEqualTo(2);
+    }
+
+    @Test
+    void deveRemoverSomenteSeOCpfAindaApontarParaOId() {
+        // Given
+        IndiceCpf indice = new IndiceCpf();
+        indice.registrar(12345678901L, 1L);
+
+        // When
+        indice.remover(12345678901L, 2L);
+
+        // Then
+        assertThat(indice.buscar(12345678901L)).isEqualTo(1L);
+
+        // When
+        indice.remover(12345678901L, 1L);
+
+        // Then
+        assertThat(indice.buscar(12345678901L)).isEqualTo(IndiceCpf.AUSENTE);
+        assertThat(indice.tamanho()).isZero();
+    }
+
+    @Test
+    void deveCrescerEManterOsDadosAoReservar() {
+        // Given
+        IndiceCpf indice = new IndiceCpf();
+        for (long i = 0; i < 10_000; i++) {
+            indice.registrar(10_000_000_000L + i, i + 1);
+        }
+
+        // When
+        indice.reservar(100_000);
+
+        // Then
+        assertThat(indice.tamanho()).isEqualTo(10_000);
+        assertThat(indice.bytes()).isGreaterThanOrEqualTo(100_000L * 2 * Long.BYTES);
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(indice.buscar(10_000_000_000L + i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void deveSeComportarComoUmMapaEmOperacoesAleatorias() {
+        // Given: poucas chaves distintas para forçar colisões, remoções no meio de sequências de sondagem e reinserções
+        IndiceCpf indice = new IndiceCpf();
+        Map<Long, Long> esperado = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            long cpf = random.nextInt(5_000) * 7_919L;
+            if (random.nextInt(3) == 0) {
+                Long id = esperado.get(cpf);
+                if (id != null) {
+                    indice.remover(cpf, id);
+                    esperado.remove(cpf);
+                }
+            } else {
+                long id = random.nextInt(1_000_000) + 1;
+                indice.registrar(cpf, id);
+                esperado.put(cpf, id);
+            }
+        }
+
+        // Then
+        assertThat(indice.tamanho()).isEqualTo(esperado.size());
+        for (int i = 0; i < 5_000; i++) {
+            long cpf = i * 7_919L;
+            assertThat(indice.buscar(cpf)).isEqualTo(esperado.getOrDefault(cpf, IndiceCpf.AUSENTE));
+        }
+    }
+}
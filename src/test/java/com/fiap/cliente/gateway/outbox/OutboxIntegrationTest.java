@@ -0,0 +1,105 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.entity.OutboxEventoEntity;
+import com.fiap.cliente.gateway.repository.OutboxEventoRepository;
+import com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCase;
+import com.fiap.cliente.usecase.service.CadastrarClienteServiceUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Intervalos longos: relay e limpeza só rodam quando o teste chama; retenção zero remove todo evento já publicado
+@SpringBootTest(properties = {"cliente.outbox.sink=memoria", "cliente.outbox.intervalo=1h",
+        "cliente.outbox.intervalo-limpeza=1h", "cliente.outbox.retencao=0s"})
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    @Autowired
+    private CadastrarClienteServiceUseCase cadastrarUseCase;
+
+    @Autowired
+    private AtualizarParcialClienteServiceUseCase atualizarParcialUseCase;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private PublicadorEventosMemoria publicador;
+
+    @Autowired
+    private LimpezaOutbox limpeza;
+
+    @Autowired
+    private OutboxEventoRepository repository;
+
+    @Test
+    void devePublicarEventosDasGravacoesNaOrdem() {
+        // Given
+        Cliente salvo = cadastrarUseCase.execute(Cliente.builder().nome("Paula Reis").cpf(novoCpf()).build());
+        atualizarParcialUseCase.execute(salvo.getId(), Cliente.builder().nome("Paula Reis Lima").build());
+
+        // When
+        relay.publicarPendentes();
+
+        // Then
+        List<EventoCliente> doCliente = publicador.getPublicados().stream()
+                .filter(evento -> salvo.getId().equals(evento.getClienteId()))
+                .toList();
+        assertThat(doCliente).extracting(EventoCliente::getTipo)
+                .containsExactly(TipoEventoCliente.CRIADO, TipoEventoCliente.ATUALIZADO);
+        assertThat(doCliente.get(1).getCliente().getNome()).isEqualTo("Paula Reis Lima");
+        assertThat(doCliente.get(1).getCliente().getVersao()).isEqualTo(1L);
+        assertThat(relay.publicarPendentes()).isZero();
+    }
+
+    @Test
+    void naoDeveRegistrarEventoQuandoAGravacaoFalhar() {
+        // Given
+        String cpf = novoCpf();
+        cadastrarUseCase.execute(Cliente.builder().nome("Primeiro").cpf(cpf).build());
+        relay.publicarPendentes();
+        int publicadosAntes = publicador.getPublicados().size();
+
+        // When
+        assertThatThrownBy(() -> cadastrarUseCase.execute(Cliente.builder().nome("Segundo").cpf(cpf).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(relay.publicarPendentes()).isZero();
+        assertThat(publicador.getPublicados()).hasSize(publicadosAntes);
+    }
+
+    @Test
+    void deveRemoverSoOsEventosPublicadosForaDaRetencao() {
+        // Given
+        Cliente publicado = cadastrarUseCase.execute(Cliente.builder().nome("Carla Dias").cpf(novoCpf()).build());
+        relay.publicarPendentes();
+        Cliente pendente = cadastrarUseCase.execute(Cliente.builder().nome("Davi Reis").cpf(novoCpf()).build());
+
+        // When
+        int removidos = limpeza.removerPublicados();
+
+        // Then
+        assertThat(removidos).isPositive();
+        List<Long> restantes = repository.findAll().stream().map(OutboxEventoEntity::getClienteId).toList();
+        assertThat(restantes).doesNotContain(publicado.getId()).contains(pendente.getId());
+        relay.publicarPendentes();
+        assertThat(publicador.getPublicados()).extracting(EventoCliente::getClienteId).contains(pendente.getId());
+    }
+
+    private static String novoCpf() {
+        return String.format("%011d", 70_000_000_000L + SEQUENCIA.incrementAndGet());
+    }
+}
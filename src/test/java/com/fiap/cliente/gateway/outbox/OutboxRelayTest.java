@@ -0,0 +1,75 @@
+package com.fiap.cliente.gateway.outbox;
+
+import com.fiap.cliente.domain.EventoCliente;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
+    @Mock
+    private PublicadorEventos publicador;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        relay = new OutboxRelay(eventoGateway, publicador, transactionTemplate, 2);
+    }
+
+    @Test
+    void devePublicarEmLotesAteEsvaziarOOutbox() {
+        // Given
+        EventoCliente primeiro = EventoCliente.builder().id(1L).build();
+        EventoCliente segundo = EventoCliente.builder().id(2L).build();
+        EventoCliente terceiro = EventoCliente.builder().id(3L).build();
+        when(eventoGateway.buscarPendentes(2)).thenReturn(List.of(primeiro, segundo), List.of(terceiro));
+
+        // When
+        int publicados = relay.publicarPendentes();
+
+        // Then
+        assertThat(publicados).isEqualTo(3);
+        verify(publicador).publicar(List.of(primeiro, segundo));
+        verify(publicador).publicar(List.of(terceiro));
+        verify(eventoGateway).marcarPublicados(List.of(1L, 2L));
+        verify(eventoGateway).marcarPublicados(List.of(3L));
+    }
+
+    @Test
+    void naoDeveMarcarEventosQuandoAPublicacaoFalhar() {
+        // Given
+        when(eventoGateway.buscarPendentes(2)).thenReturn(List.of(EventoCliente.builder().id(1L).build()));
+        doThrow(new IllegalStateException("Broker indisponível")).when(publicador).publicar(anyList());
+
+        // When
+        relay.executar();
+
+        // Then
+        verify(eventoGateway, never()).marcarPublicados(any());
+    }
+}
@@ -0,0 +1,51 @@
+package com.fiap.cliente.gateway.repository;
+
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClienteRepositoryCustomImplIntegrationTest {
+
+    @Autowired
+    private ClienteRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deveResolverCpfRepetidoPeloCacheDeSegundoNivel() {
+        // Given
+        long cpfNumero = 60_000_000_000L + System.nanoTime() % 1_000_000_000L;
+        ClienteEntity salvo = repository.saveAndFlush(ClienteEntity.builder()
+                .nome("Ana Lima")
+                .cpf(String.format("%011d", cpfNumero))
+                .cpfNumero(cpfNumero)
+                .build());
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        repository.findByCpfNumero(cpfNumero);
+        estatisticas.clear();
+
+        // When
+        assertThat(repository.findByCpfNumero(cpfNumero)).get().extracting(ClienteEntity::getId).isEqualTo(salvo.getId());
+
+        // Then
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void deveRetornarVazioParaCpfInexistente() {
+        // When & Then
+        assertThat(repository.findByCpfNumero(1L)).isEmpty();
+    }
+}
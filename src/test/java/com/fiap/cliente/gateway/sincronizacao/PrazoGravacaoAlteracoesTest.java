@@ -0,0 +1,33 @@
+package com.fiap.cliente.gateway.sincronizacao;
+
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrazoGravacaoAlteracoesTest {
+
+    @Test
+    void deveRecusarDuracaoMaximaQueNaoSejaMenorQueOAtrasoSeguro() {
+        // When & Then
+        assertThatThrownBy(() -> new PrazoGravacaoAlteracoes(Duration.ofSeconds(30), Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("atraso-seguro");
+    }
+
+    @Test
+    void deveDesfazerSomenteQuemPassouDoPrazo() {
+        // Given
+        PrazoGravacaoAlteracoes prazo = new PrazoGravacaoAlteracoes(Duration.ofSeconds(20), Duration.ofSeconds(30));
+        long agora = SequenciaAlteracaoGenerator.limite(Instant.now());
+
+        // When & Then
+        assertThatCode(() -> prazo.verificar(agora - Duration.ofSeconds(19).toNanos() / 1000)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> prazo.verificar(agora - Duration.ofSeconds(21).toNanos() / 1000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,176 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.config.stream.StreamClientesProperties;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.exception.CapacidadeEsgotadaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DifusorAlteracoesClientesTest {
+
+    private SimpleMeterRegistry registry;
+    private DifusorAlteracoesClientes difusor;
+
+    @BeforeEach
+    void setUp() {
+        StreamClientesProperties properties = new StreamClientesProperties();
+        properties.setBuffer(2);
+        properties.setMaxAssinantes(2);
+        registry = new SimpleMeterRegistry();
+        difusor = new DifusorAlteracoesClientes(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        difusor.encerrar();
+    }
+
+    @Test
+    void deveEntregarSomenteAosAssinantesInteressados() throws InterruptedException {
+        // Given
+        EntregaFila todos = new EntregaFila();
+        EntregaFila filtrado = new EntregaFila();
+        difusor.assinar(Set.of(), todos);
+        difusor.assinar(Set.of("11122233344"), filtrado);
+
+        // When & Then: cada alteração é consumida antes da próxima para não encher a fila (buffer 2)
+        difusor.difundir(cliente("12345678901"), null);
+        assertThat(todos.proximo().getCpf()).isEqualTo("12345678901");
+        difusor.difundir(cliente("11122233344"), null);
+        assertThat(todos.proximo().getCpf()).isEqualTo("11122233344");
+        assertThat(filtrado.proximo().getCpf()).isEqualTo("11122233344");
+        difusor.difundir(cliente("55566677788"), "11122233344");
+        assertThat(todos.proximo().getCpf()).isEqualTo("55566677788");
+        assertThat(filtrado.proximo().getCpf()).isEqualTo("55566677788");
+        assertThat(filtrado.recebidos).isEmpty();
+    }
+
+    @Test
+    void deveDesconectarAssinanteQueNaoAcompanhaORitmo() throws InterruptedException {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        EntregaFila lento = new EntregaFila() {
+            @Override
+            public void enviar(Cliente cliente) throws IOException {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.enviar(cliente);
+            }
+        };
+        EntregaFila rapido = new EntregaFila();
+        difusor.assinar(Set.of(), lento);
+        difusor.assinar(Set.of(), rapido);
+
+        // When: o assinante rápido consome cada alteração antes da próxima
+        for (int i = 0; i < 4; i++) {
+            difusor.difundir(cliente(String.format("%011d", i)), null);
+            assertThat(rapido.proximo().getCpf()).isEqualTo(String.format("%011d", i));
+        }
+
+        // Then
+        assertThat(lento.encerrada.await(5, TimeUnit.SECONDS)).isTrue();
+        liberar.countDown();
+        assertThat(difusor.assinantes()).isEqualTo(1);
+        assertThat(registry.counter("cliente.stream.desconectados", "motivo", "lento").count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveDesconectarAssinanteQuandoAEscritaFalhar() throws InterruptedException {
+        // Given
+        EntregaFila quebrada = new EntregaFila() {
+            @Override
+            public void enviar(Cliente cliente) throws IOException {
+                throw new IOException("Conexão fechada");
+            }
+        };
+        difusor.assinar(Set.of(), quebrada);
+
+        // When
+        difusor.difundir(cliente("12345678901"), null);
+
+        // Then
+        assertThat(quebrada.encerrada.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(difusor.assinantes()).isZero();
+        assertThat(registry.counter("cliente.stream.desconectados", "motivo", "erro").count()).isEqualTo(1);
+    }
+
+    @Test
+    void devePublicarSomenteDepoisDoCommit() throws InterruptedException {
+        // Given
+        EntregaFila entrega = new EntregaFila();
+        difusor.assinar(Set.of(), entrega);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            difusor.publicarAposCommit(cliente("12345678901"), null);
+
+            // Then
+            assertThat(entrega.recebidos.poll(100, TimeUnit.MILLISECONDS)).isNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(entrega.proximo().getCpf()).isEqualTo("12345678901");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveRecusarAssinaturasAlemDoLimite() {
+        // Given
+        AssinaturaAlteracoes primeira = difusor.assinar(Set.of(), new EntregaFila());
+        difusor.assinar(Set.of(), new EntregaFila());
+
+        // When & Then
+        assertThatThrownBy(() -> difusor.assinar(Set.of(), new EntregaFila()))
+                .isInstanceOf(CapacidadeEsgotadaException.class);
+        difusor.cancelar(primeira);
+        difusor.assinar(Set.of(), new EntregaFila());
+        assertThat(difusor.assinantes()).isEqualTo(2);
+    }
+
+    private static Cliente cliente(String cpf) {
+        return Cliente.builder().id(1L).nome("João Silva").cpf(cpf).build();
+    }
+
+    private static class EntregaFila implements EntregaAlteracoes {
+
+        final BlockingQueue<Cliente> recebidos = new LinkedBlockingQueue<>();
+        final CountDownLatch encerrada = new CountDownLatch(1);
+
+        @Override
+        public void enviar(Cliente cliente) throws IOException {
+            recebidos.add(cliente);
+        }
+
+        @Override
+        public void manterConexao() {
+        }
+
+        @Override
+        public void encerrar() {
+            encerrada.countDown();
+        }
+
+        Cliente proximo() throws InterruptedException {
+            Cliente cliente = recebidos.poll(5, TimeUnit.SECONDS);
+            assertThat(cliente).isNotNull();
+            return cliente;
+        }
+    }
+}
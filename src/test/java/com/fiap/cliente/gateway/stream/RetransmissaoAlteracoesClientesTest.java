@@ -0,0 +1,128 @@
+package com.fiap.cliente.gateway.stream;
+
+import com.fiap.cliente.config.stream.StreamClientesProperties;
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.cache.EventoInvalidacao;
+import com.fiap.cliente.gateway.cache.InvalidacaoCacheClientes;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacao;
+import com.fiap.cliente.gateway.cache.TransporteInvalidacaoLocal;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import com.fiap.cliente.gateway.repository.ClienteRepository;
+import com.fiap.cliente.mapper.ClienteMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetransmissaoAlteracoesClientesTest {
+
+    private static final String ORIGEM_LOCAL = "local";
+
+    @Mock
+    private InvalidacaoCacheClientes invalidacao;
+
+    @Mock
+    private ClienteRepository repository;
+
+    @Mock
+    private ClienteMapper mapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TransporteInvalidacao transporte;
+    private DifusorAlteracoesClientes difusor;
+    private final BlockingQueue<Cliente> recebidos = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        transporte = new TransporteInvalidacaoLocal();
+        difusor = new DifusorAlteracoesClientes(new StreamClientesProperties(), new SimpleMeterRegistry());
+        new RetransmissaoAlteracoesClientes(transporte, invalidacao, difusor, repository, mapper, transactionTemplate)
+                .assinar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        difusor.encerrar();
+    }
+
+    @Test
+    void deveEntregarAosAssinantesLocaisAsAlteracoesDeOutraInstancia() throws InterruptedException {
+        // Given: assinante que acompanha o CPF antigo de um cliente que trocou de CPF em outra instância
+        assinar(Set.of("11122233344"));
+        when(invalidacao.getOrigem()).thenReturn(ORIGEM_LOCAL);
+        ClienteEntity entidade = new ClienteEntity();
+        Cliente cliente = Cliente.builder().id(1L).nome("João Silva").cpf("123.456.789-01").build();
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(entidade));
+        when(mapper.toDomain(entidade)).thenReturn(cliente);
+
+        // When
+        transporte.publicar(new EventoInvalidacao("remota", List.of(1L),
+                List.of("11122233344", "123.456.789-01"), true, true));
+
+        // Then
+        assertThat(recebidos.poll(5, TimeUnit.SECONDS)).isEqualTo(cliente);
+    }
+
+    @Test
+    void deveIgnorarEventosDaPropriaInstanciaEImportacoes() throws InterruptedException {
+        // Given
+        assinar(Set.of());
+        when(invalidacao.getOrigem()).thenReturn(ORIGEM_LOCAL);
+
+        // When
+        transporte.publicar(new EventoInvalidacao(ORIGEM_LOCAL, List.of(1L), List.of("12345678901"), false, true));
+        transporte.publicar(new EventoInvalidacao("remota", List.of(2L, 3L), List.of("11122233344"), false, false));
+
+        // Then
+        assertThat(recebidos.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        verifyNoInteractions(repository, transactionTemplate);
+    }
+
+    @Test
+    void naoDeveConsultarOBancoSemAssinantes() {
+        // When
+        transporte.publicar(new EventoInvalidacao("remota", List.of(1L), List.of("12345678901"), false, true));
+
+        // Then
+        verifyNoInteractions(repository, transactionTemplate);
+    }
+
+    private void assinar(Set<String> cpfs) {
+        difusor.assinar(cpfs, new EntregaAlteracoes() {
+            @Override
+            public void enviar(Cliente cliente) {
+                recebidos.add(cliente);
+            }
+
+            @Override
+            public void manterConexao() {
+            }
+
+            @Override
+            public void encerrar() {
+            }
+        });
+    }
+}
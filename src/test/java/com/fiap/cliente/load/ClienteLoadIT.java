@@ -0,0 +1,247 @@
+package com.fiap.cliente.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import com.fiap.cliente.dto.request.EnderecoRequestDTO;
+import com.fiap.cliente.dto.response.ImportacaoResponseDTO;
+import com.fiap.cliente.dto.response.ItemImportacaoResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga ponta a ponta: sobe a aplicacao numa porta aleatoria com H2 em modo PostgreSQL, popula
+ * {@code load.clientes} clientes e dispara {@code load.requisicoes} requisicoes com {@code load.concorrencia}
+ * clientes HTTP simultaneos (90% GET por CPF, 8% POST, 2% PUT). Executar com {@code mvn verify -Pload}.
+ *
+ * <p>O resultado (vazao e p50/p99/p999 por endpoint) e impresso e gravado em {@code target/load-report.json}.
+ * Com {@code -Dload.p99.max.ms=N} o teste falha se o p99 de algum endpoint passar de N ms.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:carga;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+@ActiveProfiles(resolver = ClienteLoadIT.PerfisCarga.class)
+class ClienteLoadIT {
+
+    private static final String BUSCAR = "GET /clientes/{cpf}";
+    private static final String CADASTRAR = "POST /clientes";
+    private static final String ATUALIZAR = "PUT /clientes/{id}";
+
+    private static final int CLIENTES = Integer.getInteger("load.clientes", 10_000);
+    private static final int REQUISICOES = Integer.getInteger("load.requisicoes", 50_000);
+    private static final int AQUECIMENTO = Integer.getInteger("load.aquecimento", 5_000);
+    private static final int CONCORRENCIA = Integer.getInteger("load.concorrencia", 32);
+    private static final String P99_MAXIMO_MS = System.getProperty("load.p99.max.ms");
+    private static final int TAMANHO_LOTE_IMPORTACAO = 1_000;
+    private static final long SEMENTE = 42L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong proximoCpf = new AtomicLong();
+
+    @LocalServerPort
+    private int porta;
+
+    /**
+     * Perfis Spring da execucao. O padrao {@code test,prod} mede com o logging de producao; {@code -Dload.perfis=test}
+     * mede com o logging de desenvolvimento (SQL e parametros no console).
+     */
+    public static class PerfisCarga implements ActiveProfilesResolver {
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return System.getProperty("load.perfis", "test,prod").split(",");
+        }
+    }
+
+    private record Operacao(String endpoint, HttpRequest requisicao) {
+    }
+
+    @Test
+    void deveSustentarCargaMistaDeBuscasCadastrosEAtualizacoes() throws Exception {
+        List<ItemImportacaoResponseDTO> populados = popular();
+        Random random = new Random(SEMENTE);
+
+        executar(operacoes(AQUECIMENTO, populados, random), new LinkedHashMap<>());
+
+        Map<String, Queue<Long>> latencias = new LinkedHashMap<>();
+        List<Operacao> operacoes = operacoes(REQUISICOES, populados, random);
+        long inicio = System.nanoTime();
+        int erros = executar(operacoes, latencias);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        Map<String, Object> relatorio = relatorio(latencias, segundos, erros);
+        System.out.println(objectMapper.writeValueAsString(relatorio));
+        Files.writeString(Path.of("target", "load-report.json"), objectMapper.writeValueAsString(relatorio));
+
+        assertThat(erros).as("requisições com status diferente de 200").isZero();
+        if (P99_MAXIMO_MS != null) {
+            latencias.forEach((endpoint, amostras) -> assertThat(percentil(ordenadas(amostras), 0.99) / 1e6)
+                    .as("p99 de %s (ms)", endpoint)
+                    .isLessThanOrEqualTo(Double.parseDouble(P99_MAXIMO_MS)));
+        }
+    }
+
+    private List<ItemImportacaoResponseDTO> popular() throws IOException, InterruptedException {
+        List<ItemImportacaoResponseDTO> populados = new ArrayList<>(CLIENTES);
+        for (int inicio = 0; inicio < CLIENTES; inicio += TAMANHO_LOTE_IMPORTACAO) {
+            List<ClienteRequestDTO> lote = IntStream.range(inicio, Math.min(inicio + TAMANHO_LOTE_IMPORTACAO, CLIENTES))
+                    .mapToObj(i -> novoCliente())
+                    .collect(Collectors.toList());
+            HttpResponse<String> resposta = http.send(json("POST", "/clientes/importacao", lote),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(resposta.statusCode()).isEqualTo(200);
+            ImportacaoResponseDTO importacao = objectMapper.readValue(resposta.body(), ImportacaoResponseDTO.class);
+            assertThat(importacao.getRejeitados()).isZero();
+            populados.addAll(importacao.getItens());
+        }
+        return populados;
+    }
+
+    // Sequencia deterministica de operacoes (semente fixa) para que execucoes diferentes sejam comparaveis
+    private List<Operacao> operacoes(int quantidade, List<ItemImportacaoResponseDTO> populados, Random random)
+            throws IOException {
+        List<Operacao> operacoes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int sorteio = random.nextInt(100);
+            ItemImportacaoResponseDTO alvo = populados.get(random.nextInt(populados.size()));
+            if (sorteio < 90) {
+                operacoes.add(new Operacao(BUSCAR, HttpRequest.newBuilder(uri("/clientes/" + alvo.getCpf())).GET().build()));
+            } else if (sorteio < 98) {
+                operacoes.add(new Operacao(CADASTRAR, json("POST", "/clientes", novoCliente())));
+            } else {
+                ClienteRequestDTO alteracao = novoCliente();
+                alteracao.setCpf(alvo.getCpf());
+                operacoes.add(new Operacao(ATUALIZAR, json("PUT", "/clientes/" + alvo.getId(), alteracao)));
+            }
+        }
+        return operacoes;
+    }
+
+    private int executar(List<Operacao> operacoes, Map<String, Queue<Long>> latencias) throws Exception {
+        Arrays.asList(BUSCAR, CADASTRAR, ATUALIZAR).forEach(endpoint -> latencias.put(endpoint, new ConcurrentLinkedQueue<>()));
+        AtomicInteger erros = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCORRENCIA);
+        try {
+            List<Future<?>> futuros = new ArrayList<>(operacoes.size());
+            for (Operacao operacao : operacoes) {
+                futuros.add(executor.submit(() -> {
+                    long inicio = System.nanoTime();
+                    HttpResponse<Void> resposta = http.send(operacao.requisicao(), HttpResponse.BodyHandlers.discarding());
+                    latencias.get(operacao.endpoint()).add(System.nanoTime() - inicio);
+                    if (resposta.statusCode() != 200) {
+                        erros.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return erros.get();
+    }
+
+    private Map<String, Object> relatorio(Map<String, Queue<Long>> latencias, double segundos, int erros) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        latencias.forEach((endpoint, amostras) -> {
+            long[] ordenadas = ordenadas(amostras);
+            Map<String, Object> metricas = new LinkedHashMap<>();
+            metricas.put("requisicoes", ordenadas.length);
+            metricas.put("vazaoPorSegundo", Math.round(ordenadas.length / segundos));
+            metricas.put("p50Ms", milissegundos(percentil(ordenadas, 0.50)));
+            metricas.put("p99Ms", milissegundos(percentil(ordenadas, 0.99)));
+            metricas.put("p999Ms", milissegundos(percentil(ordenadas, 0.999)));
+            metricas.put("maxMs", milissegundos(ordenadas.length == 0 ? 0 : ordenadas[ordenadas.length - 1]));
+            endpoints.put(endpoint, metricas);
+        });
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("perfis", System.getProperty("load.perfis", "test,prod"));
+        relatorio.put("clientes", CLIENTES);
+        relatorio.put("requisicoes", REQUISICOES);
+        relatorio.put("concorrencia", CONCORRENCIA);
+        relatorio.put("duracaoSegundos", Math.round(segundos * 100) / 100.0);
+        relatorio.put("vazaoPorSegundo", Math.round(REQUISICOES / segundos));
+        relatorio.put("erros", erros);
+        relatorio.put("endpoints", endpoints);
+        return relatorio;
+    }
+
+    private static long[] ordenadas(Queue<Long> amostras) {
+        return amostras.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static long percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(posicao, 0)];
+    }
+
+    private static double milissegundos(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+
+    private ClienteRequestDTO novoCliente() {
+        long sequencial = proximoCpf.incrementAndGet();
+        return ClienteRequestDTO.builder()
+                .nome("Cliente " + sequencial)
+                .cpf(String.format("%011d", sequencial))
+                .dataNascimento(LocalDate.of(1990, 1, 1).plusDays(sequencial % 10_000))
+                .endereco(EnderecoRequestDTO.builder()
+                        .rua("Rua " + sequencial % 500)
+                        .numero(String.valueOf(sequencial % 2_000))
+                        .cep("01000-000")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .build())
+                .build();
+    }
+
+    private HttpRequest json(String metodo, String caminho, Object corpo) throws IOException {
+        return HttpRequest.newBuilder(uri(caminho))
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo)))
+                .build();
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+}
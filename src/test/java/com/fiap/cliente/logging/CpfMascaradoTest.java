@@ -0,0 +1,39 @@
+package com.fiap.cliente.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CpfMascaradoTest {
+
+    @Test
+    void deveMascararCpf() {
+        assertThat(CpfMascarado.de("12345678901")).hasToString("***456789**");
+    }
+
+    @Test
+    void deveMascararCpfDentroDaUri() {
+        assertThat(CpfMascarado.de("/clientes/12345678901")).hasToString("/clientes/***456789**");
+    }
+
+    @Test
+    void deveMascararCpfFormatado() {
+        assertThat(CpfMascarado.de("123.456.789-01")).hasToString("***.456.789-**");
+        assertThat(CpfMascarado.de("/clientes/123.456.789-01")).hasToString("/clientes/***.456.789-**");
+        assertThat(CpfMascarado.de("CPF 123456789-01 duplicado")).hasToString("CPF ***456789-** duplicado");
+    }
+
+    @Test
+    void deveManterTextoSemCpf() {
+        assertThat(CpfMascarado.de("/clientes/15")).hasToString("/clientes/15");
+        assertThat(CpfMascarado.de("123456789012")).hasToString("123456789012");
+        assertThat(CpfMascarado.de("123.456.789-012")).hasToString("123.456.789-012");
+        assertThat(CpfMascarado.de("123.456.789")).hasToString("123.456.789");
+        assertThat(CpfMascarado.de("versao 1.2.3-")).hasToString("versao 1.2.3-");
+    }
+
+    @Test
+    void deveAceitarValorNulo() {
+        assertThat(CpfMascarado.de(null)).hasToString("null");
+    }
+}
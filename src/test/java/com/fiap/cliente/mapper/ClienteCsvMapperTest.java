@@ -0,0 +1,81 @@
+package com.fiap.cliente.mapper;
+
+import com.fiap.cliente.dto.request.ClienteRequestDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClienteCsvMapperTest {
+
+    private final ClienteCsvMapper csvMapper = new ClienteCsvMapper();
+
+    @Test
+    void deveLerCsvSeparadoPorPontoEVirgula() throws IOException {
+        // Given
+        String csv = """
+                nome;cpf;dataNascimento;rua;numero;cep;cidade;estado
+                João Silva;12345678901;1990-05-15;Rua das Flores;123;01234-567;São Paulo;SP
+
+                Maria Santos;98765432100;;;;;;
+                """;
+
+        // When
+        List<ClienteRequestDTO> dtos = csvMapper.toRequestDTOs(stream(csv));
+
+        // Then
+        assertThat(dtos).hasSize(2);
+        assertThat(dtos.get(0).getNome()).isEqualTo("João Silva");
+        assertThat(dtos.get(0).getCpf()).isEqualTo("12345678901");
+        assertThat(dtos.get(0).getDataNascimento()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(dtos.get(0).getEndereco().getCidade()).isEqualTo("São Paulo");
+        assertThat(dtos.get(1).getDataNascimento()).isNull();
+        assertThat(dtos.get(1).getEndereco()).isNull();
+    }
+
+    @Test
+    void deveLerCsvSeparadoPorVirgulaComColunasEmOutraOrdem() throws IOException {
+        // Given
+        String csv = "\uFEFFcpf,nome\n12345678901,João Silva\n";
+
+        // When
+        List<ClienteRequestDTO> dtos = csvMapper.toRequestDTOs(stream(csv));
+
+        // Then
+        assertThat(dtos).hasSize(1);
+        assertThat(dtos.get(0).getNome()).isEqualTo("João Silva");
+        assertThat(dtos.get(0).getCpf()).isEqualTo("12345678901");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCabecalhoNaoTiverColunasObrigatorias() {
+        assertThatThrownBy(() -> csvMapper.toRequestDTOs(stream("nome;rua\nJoão;Rua A\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("O CSV deve conter as colunas nome e cpf!");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoDataForInvalida() {
+        assertThatThrownBy(() -> csvMapper.toRequestDTOs(stream("nome;cpf;dataNascimento\nJoão;123;15/05/1990\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Data de nascimento inválida na linha 2 do CSV!");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoArquivoEstiverVazio() {
+        assertThatThrownBy(() -> csvMapper.toRequestDTOs(stream("")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Arquivo CSV vazio!");
+    }
+
+    private InputStream stream(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
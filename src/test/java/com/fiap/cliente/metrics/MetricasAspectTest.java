@@ -0,0 +1,99 @@
+package com.fiap.cliente.metrics;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import com.fiap.cliente.usecase.service.BuscarClientePorCpfServiceUseCase;
+import com.fiap.cliente.usecase.service.CadastrarClienteServiceUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricasAspectTest {
+
+    @Mock
+    private ClienteGateway gatewayMock;
+
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
+    private SimpleMeterRegistry registry;
+    private ClienteGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        gateway = comAspecto(gatewayMock);
+    }
+
+    @Test
+    void deveMedirBuscasComOutcomeFoundENotFound() {
+        // Given
+        when(gatewayMock.buscarPorCpf("12345678901")).thenReturn(Optional.of(new Cliente()));
+        when(gatewayMock.buscarPorCpf("99999999999")).thenReturn(Optional.empty());
+        BuscarClientePorCpfServiceUseCase useCase = comAspecto(new BuscarClientePorCpfServiceUseCase(gateway));
+
+        // When
+        useCase.execute("12345678901");
+        useCase.execute("12345678901");
+        useCase.execute("99999999999");
+
+        // Then
+        assertThat(contagem(MetricasAspect.METRICA_GATEWAY, "buscarPorCpf", MetricasAspect.FOUND)).isEqualTo(2);
+        assertThat(contagem(MetricasAspect.METRICA_GATEWAY, "buscarPorCpf", MetricasAspect.NOT_FOUND)).isEqualTo(1);
+        assertThat(contagem(MetricasAspect.METRICA_USECASE, "execute", MetricasAspect.FOUND)).isEqualTo(2);
+        assertThat(registry.get(MetricasAspect.METRICA_USECASE)
+                .tag("classe", "BuscarClientePorCpfServiceUseCase").timers()).isNotEmpty();
+    }
+
+    @Test
+    void deveMarcarConflitoDeCpfNoGatewayENoCasoDeUso() {
+        // Given
+        when(gatewayMock.salvar(any())).thenThrow(new DuplicateKeyException("CPF já cadastrado"));
+        CadastrarClienteServiceUseCase useCase = comAspecto(new CadastrarClienteServiceUseCase(gateway, eventoGateway));
+
+        // When
+        assertThatThrownBy(() -> useCase.execute(Cliente.builder().cpf("12345678901").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(contagem(MetricasAspect.METRICA_GATEWAY, "salvar", MetricasAspect.CONFLICT)).isEqualTo(1);
+        assertThat(contagem(MetricasAspect.METRICA_USECASE, "execute", MetricasAspect.CONFLICT)).isEqualTo(1);
+    }
+
+    @Test
+    void deveMarcarErroInesperado() {
+        // Given
+        when(gatewayMock.listarTodos()).thenThrow(new IllegalStateException("Banco indisponível"));
+
+        // When
+        assertThatThrownBy(() -> gateway.listarTodos()).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(contagem(MetricasAspect.METRICA_GATEWAY, "listarTodos", MetricasAspect.ERROR)).isEqualTo(1);
+    }
+
+    private long contagem(String metrica, String metodo, String outcome) {
+        return registry.get(metrica).tag("metodo", metodo).tag("outcome", outcome).timer().count();
+    }
+
+    private <T> T comAspecto(T alvo) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(alvo);
+        factory.setProxyTargetClass(!(alvo instanceof ClienteGateway));
+        factory.addAspect(new MetricasAspect(registry));
+        return factory.getProxy();
+    }
+}
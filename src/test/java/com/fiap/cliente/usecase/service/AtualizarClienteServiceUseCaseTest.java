@@ -2,15 +2,19 @@ package com.fiap.cliente.usecase.service;
 
 import com.fiap.cliente.domain.Cliente;
 import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.domain.TipoEventoCliente;
 import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,6 +26,9 @@ class AtualizarClienteServiceUseCaseTest {
     @Mock
     private ClienteGateway clienteGateway;
 
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
     @InjectMocks
     private AtualizarClienteServiceUseCase atualizarClienteServiceUseCase;
 
@@ -77,6 +84,7 @@ class AtualizarClienteServiceUseCaseTest {
         assertEquals(idCliente, clienteInput.getId());
 
         verify(clienteGateway, times(1)).atualizar(clienteInput);
+        verify(eventoGateway).registrar(TipoEventoCliente.ATUALIZADO, List.of(clienteRetornado));
     }
 
     @Test
@@ -114,6 +122,20 @@ class AtualizarClienteServiceUseCaseTest {
         verify(clienteGateway, times(1)).atualizar(clienteInput);
     }
 
+    @Test
+    void deveLancarExcecaoQuandoCpfJaPertencerAOutroCliente() {
+        // Arrange
+        when(clienteGateway.atualizar(any(Cliente.class))).thenThrow(new DuplicateKeyException("CPF já cadastrado"));
+
+        // Act & Assert
+        IllegalArgumentException excecao = assertThrows(IllegalArgumentException.class, () ->
+                atualizarClienteServiceUseCase.execute(idCliente, clienteInput)
+        );
+
+        assertEquals("CPF já cadastrado!", excecao.getMessage());
+        verifyNoInteractions(eventoGateway);
+    }
+
     @Test
     void deveFuncionarComClienteQueJaPossuiId() {
         // Arrange
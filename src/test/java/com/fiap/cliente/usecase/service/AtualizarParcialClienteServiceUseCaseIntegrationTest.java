@@ -0,0 +1,73 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.fiap.cliente.usecase.service.AtualizarParcialClienteServiceUseCaseIntegrationTest$SqlExecutado")
+@ActiveProfiles("test")
+class AtualizarParcialClienteServiceUseCaseIntegrationTest {
+
+    @Autowired
+    private AtualizarParcialClienteServiceUseCase useCase;
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    private Long id;
+
+    public static class SqlExecutado implements StatementInspector {
+        static final List<String> SQLS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQLS.add(sql.toLowerCase());
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        id = gateway.salvar(Cliente.builder()
+                .nome("João Silva")
+                .cpf(String.valueOf(System.nanoTime()).substring(0, 11))
+                .build()).getId();
+        SqlExecutado.SQLS.clear();
+    }
+
+    @Test
+    void deveAtualizarSomenteAColunaAlterada() {
+        // When
+        useCase.execute(id, Cliente.builder().nome("João Souza").build());
+
+        // Then
+        List<String> updates = updates();
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("nome=?").doesNotContain("cpf=?", "data_nascimento=?", "rua=?");
+        assertThat(gateway.buscarPorId(id)).get().extracting(Cliente::getNome).isEqualTo("João Souza");
+    }
+
+    @Test
+    void naoDeveEmitirUpdateQuandoNadaMudou() {
+        // When
+        useCase.execute(id, Cliente.builder().nome("João Silva").build());
+
+        // Then
+        assertThat(updates()).isEmpty();
+    }
+
+    private static List<String> updates() {
+        return SqlExecutado.SQLS.stream().filter(sql -> sql.startsWith("update")).toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.Endereco;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AtualizarParcialClienteServiceUseCaseTest {
+
+    @Mock
+    private ClienteGateway gateway;
+
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
+    @InjectMocks
+    private AtualizarParcialClienteServiceUseCase useCase;
+
+    private Cliente existente;
+
+    @BeforeEach
+    void setUp() {
+        existente = Cliente.builder()
+                .id(1L)
+                .nome("João Silva")
+                .cpf("12345678901")
+                .dataNascimento(LocalDate.of(1990, 5, 15))
+                .endereco(Endereco.builder()
+                        .rua("Rua A")
+                        .numero("100")
+                        .cep("01000-000")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .build())
+                .build();
+    }
+
+    @Test
+    void deveAlterarApenasCamposEnviados() {
+        // Given
+        when(gateway.buscarPorId(1L)).thenReturn(Optional.of(existente));
+        when(gateway.atualizar(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Cliente alteracoes = Cliente.builder()
+                .nome("João Souza")
+                .endereco(Endereco.builder().numero("200").build())
+                .build();
+
+        // When
+        useCase.execute(1L, alteracoes);
+
+        // Then
+        ArgumentCaptor<Cliente> captor = ArgumentCaptor.forClass(Cliente.class);
+        verify(gateway).atualizar(captor.capture());
+        Cliente atualizado = captor.getValue();
+        assertThat(atualizado.getNome()).isEqualTo("João Souza");
+        assertThat(atualizado.getCpf()).isEqualTo("12345678901");
+        assertThat(atualizado.getDataNascimento()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(atualizado.getEndereco().getNumero()).isEqualTo("200");
+        assertThat(atualizado.getEndereco().getRua()).isEqualTo("Rua A");
+        verify(eventoGateway).registrar(TipoEventoCliente.ATUALIZADO, List.of(atualizado));
+    }
+
+    @Test
+    void naoDeveGravarQuandoNadaMudou() {
+        // Given
+        when(gateway.buscarPorId(1L)).thenReturn(Optional.of(existente));
+        Cliente alteracoes = Cliente.builder()
+                .nome("João Silva")
+                .endereco(Endereco.builder().cidade("São Paulo").build())
+                .build();
+
+        // When
+        Cliente resultado = useCase.execute(1L, alteracoes);
+
+        // Then
+        assertThat(resultado).isEqualTo(existente);
+        verify(gateway, never()).atualizar(any());
+        verifyNoInteractions(eventoGateway);
+    }
+
+    @Test
+    void deveCriarEnderecoQuandoClienteNaoTinha() {
+        // Given
+        existente.setEndereco(null);
+        when(gateway.buscarPorId(1L)).thenReturn(Optional.of(existente));
+        when(gateway.atualizar(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Cliente resultado = useCase.execute(1L, Cliente.builder().endereco(Endereco.builder().cep("20000-000").build()).build());
+
+        // Then
+        assertThat(resultado.getEndereco().getCep()).isEqualTo("20000-000");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoClienteNaoExistir() {
+        // Given
+        when(gateway.buscarPorId(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(999L, new Cliente()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cliente não encontrado!");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoNovoCpfJaCadastrado() {
+        // Given
+        when(gateway.buscarPorId(1L)).thenReturn(Optional.of(existente));
+        when(gateway.atualizar(any(Cliente.class))).thenThrow(new DuplicateKeyException("CPF já cadastrado"));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(1L, Cliente.builder().cpf("10987654321").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CPF já cadastrado!");
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoVersaoEsperadaEstiverDesatualizada() {
+        // Given
+        existente.setVersao(2L);
+        when(gateway.buscarPorId(1L)).thenReturn(Optional.of(existente));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(1L, Cliente.builder().nome("João Souza").versao(1L).build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(gateway, never()).atualizar(any());
+    }
+}
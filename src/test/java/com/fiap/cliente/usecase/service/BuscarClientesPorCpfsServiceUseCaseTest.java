@@ -0,0 +1,69 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarClientesPorCpfsServiceUseCaseTest {
+
+    @Mock
+    private ClienteGateway gateway;
+
+    @InjectMocks
+    private BuscarClientesPorCpfsServiceUseCase useCase;
+
+    @Test
+    void deveRetornarClientesEncontradosIndexadosPorCpf() {
+        // Given
+        Set<String> cpfs = Set.of("12345678901", "99999999999");
+        Cliente cliente = Cliente.builder().id(1L).nome("João Silva").cpf("12345678901").build();
+        when(gateway.buscarPorCpfs(cpfs)).thenReturn(Map.of("12345678901", cliente));
+
+        // When
+        Map<String, Cliente> resultado = useCase.execute(cpfs);
+
+        // Then
+        assertEquals(1, resultado.size());
+        assertEquals(cliente, resultado.get("12345678901"));
+        assertFalse(resultado.containsKey("99999999999"));
+
+        verify(gateway, times(1)).buscarPorCpfs(cpfs);
+        verifyNoMoreInteractions(gateway);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoNenhumCpfForInformado() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(Set.of()));
+
+        assertEquals("Informe entre 1 e 1000 CPFs!", exception.getMessage());
+        verifyNoInteractions(gateway);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoLimiteDeCpfsForExcedido() {
+        // Given
+        Set<String> cpfs = new HashSet<>();
+        for (int i = 0; i <= 1000; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(cpfs));
+        verifyNoInteractions(gateway);
+    }
+}
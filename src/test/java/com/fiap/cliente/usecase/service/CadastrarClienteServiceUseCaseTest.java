@@ -1,16 +1,19 @@
 package com.fiap.cliente.usecase.service;
 
 import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.TipoEventoCliente;
 import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +26,9 @@ class CadastrarClienteServiceUseCaseTest {
     @Mock
     private ClienteGateway gateway;
 
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
     @InjectMocks
     private CadastrarClienteServiceUseCase useCase;
 
@@ -56,8 +62,6 @@ class CadastrarClienteServiceUseCaseTest {
     @Test
     void deveExecutarComSucessoQuandoCpfNaoExiste() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.empty());
         when(gateway.salvar(clienteParaCadastro))
                 .thenReturn(clienteSalvo);
 
@@ -71,16 +75,16 @@ class CadastrarClienteServiceUseCaseTest {
         assertEquals(clienteSalvo.getNome(), resultado.getNome());
         assertEquals(clienteSalvo.getDataNascimento(), resultado.getDataNascimento());
 
-        verify(gateway, times(1)).buscarPorCpf(eq(clienteParaCadastro.getCpf()));
         verify(gateway, times(1)).salvar(eq(clienteParaCadastro));
         verifyNoMoreInteractions(gateway);
+        verify(eventoGateway).registrar(TipoEventoCliente.CRIADO, List.of(clienteSalvo));
     }
 
     @Test
     void deveLancarExcecaoQuandoCpfJaExiste() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.of(clienteExistente));
+        when(gateway.salvar(clienteParaCadastro))
+                .thenThrow(new DuplicateKeyException("CPF já cadastrado: " + clienteExistente.getCpf()));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -90,16 +94,13 @@ class CadastrarClienteServiceUseCaseTest {
 
         assertEquals("CPF já cadastrado!", exception.getMessage());
 
-        verify(gateway, times(1)).buscarPorCpf(eq(clienteParaCadastro.getCpf()));
-        verify(gateway, never()).salvar(any(Cliente.class));
+        verify(gateway, times(1)).salvar(eq(clienteParaCadastro));
         verifyNoMoreInteractions(gateway);
     }
 
     @Test
-    void deveVerificarSeLogInfoEChamadoParaVerificacaoCpf() {
+    void deveCadastrarSemConsultarCpfPreviamente() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.empty());
         when(gateway.salvar(clienteParaCadastro))
                 .thenReturn(clienteSalvo);
 
@@ -107,15 +108,13 @@ class CadastrarClienteServiceUseCaseTest {
         useCase.execute(clienteParaCadastro);
 
         // Then
-        verify(gateway).buscarPorCpf(clienteParaCadastro.getCpf());
         verify(gateway).salvar(clienteParaCadastro);
+        verify(gateway, never()).buscarPorCpf(any());
     }
 
     @Test
     void deveVerificarSeLogInfoEChamadoParaClienteSalvo() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.empty());
         when(gateway.salvar(clienteParaCadastro))
                 .thenReturn(clienteSalvo);
 
@@ -136,18 +135,9 @@ class CadastrarClienteServiceUseCaseTest {
                 .dataNascimento(LocalDate.of(1995, 12, 25))
                 .build();
 
-        when(gateway.buscarPorCpf(null))
-                .thenReturn(Optional.empty());
-        when(gateway.salvar(clienteComCpfNulo))
-                .thenReturn(clienteComCpfNulo);
-
-        // When
-        Cliente resultado = useCase.execute(clienteComCpfNulo);
-
-        // Then
-        assertNotNull(resultado);
-        verify(gateway).buscarPorCpf(null);
-        verify(gateway).salvar(clienteComCpfNulo);
+        // When & Then: sem CPF o cadastro nunca seria encontrado
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(clienteComCpfNulo));
+        verifyNoInteractions(gateway);
     }
 
     @Test
@@ -174,8 +164,6 @@ class CadastrarClienteServiceUseCaseTest {
                 .nome("Maria Silva")
                 .build();
 
-        when(gateway.buscarPorCpf(clienteComDataNula.getCpf()))
-                .thenReturn(Optional.empty());
         when(gateway.salvar(clienteComDataNula))
                 .thenReturn(clienteSalvoComDataNula);
 
@@ -189,7 +177,18 @@ class CadastrarClienteServiceUseCaseTest {
         assertEquals(clienteSalvoComDataNula.getNome(), resultado.getNome());
         assertNull(resultado.getDataNascimento());
 
-        verify(gateway).buscarPorCpf(clienteComDataNula.getCpf());
         verify(gateway).salvar(clienteComDataNula);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveLancarExcecaoQuandoCpfNaoTiverOnzeDigitos() {
+        // Given
+        clienteParaCadastro.setCpf("1234567890");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(clienteParaCadastro));
+        assertEquals("CPF inválido!", exception.getMessage());
+        verifyNoInteractions(gateway, eventoGateway);
+    }
+}
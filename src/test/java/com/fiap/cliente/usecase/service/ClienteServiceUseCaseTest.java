@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -81,8 +82,6 @@ class ClienteServiceUseCaseTest {
     @Test
     void deveCadastrarClienteComSucessoQuandoCpfNaoExiste() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.empty());
         when(gateway.salvar(clienteParaCadastro))
                 .thenReturn(clienteSalvo);
 
@@ -95,7 +94,6 @@ class ClienteServiceUseCaseTest {
         assertEquals(clienteSalvo.getCpf(), resultado.getCpf());
         assertEquals(clienteSalvo.getNome(), resultado.getNome());
 
-        verify(gateway).buscarPorCpf(clienteParaCadastro.getCpf());
         verify(gateway).salvar(clienteParaCadastro);
         verifyNoMoreInteractions(gateway);
     }
@@ -103,8 +101,8 @@ class ClienteServiceUseCaseTest {
     @Test
     void deveLancarExcecaoAoCadastrarClienteComCpfJaExistente() {
         // Given
-        when(gateway.buscarPorCpf(clienteParaCadastro.getCpf()))
-                .thenReturn(Optional.of(clienteExistente));
+        when(gateway.salvar(clienteParaCadastro))
+                .thenThrow(new DuplicateKeyException("CPF já cadastrado: " + clienteExistente.getCpf()));
 
         // When
         IllegalArgumentException exception = assertThrows(
@@ -114,8 +112,7 @@ class ClienteServiceUseCaseTest {
 
         assertEquals("CPF já cadastrado!", exception.getMessage());
 
-        verify(gateway).buscarPorCpf(clienteParaCadastro.getCpf());
-        verify(gateway, never()).salvar(any(Cliente.class));
+        verify(gateway).salvar(clienteParaCadastro);
         verifyNoMoreInteractions(gateway);
     }
 
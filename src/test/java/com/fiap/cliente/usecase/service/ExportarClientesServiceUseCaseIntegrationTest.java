@@ -0,0 +1,53 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.entity.ClienteEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportarClientesServiceUseCaseIntegrationTest {
+
+    @Autowired
+    private ExportarClientesServiceUseCase useCase;
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deveExportarSemPassarPeloCacheDeSegundoNivel() {
+        // Given
+        Long id = gateway.salvar(Cliente.builder()
+                .nome("Bruno Costa")
+                .cpf(String.valueOf(System.nanoTime()).substring(0, 11))
+                .build()).getId();
+        entityManagerFactory.getCache().evictAll();
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        List<Cliente> exportados = new ArrayList<>();
+
+        // When
+        useCase.execute(exportados::add);
+
+        // Then
+        assertThat(exportados).extracting(Cliente::getId).contains(id);
+        assertThat(estatisticas.getSecondLevelCachePutCount()).isZero();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(ClienteEntity.class, id)).isFalse();
+    }
+}
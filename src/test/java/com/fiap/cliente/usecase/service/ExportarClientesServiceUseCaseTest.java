@@ -0,0 +1,50 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportarClientesServiceUseCaseTest {
+
+    @Mock
+    private ClienteGateway gateway;
+
+    @InjectMocks
+    private ExportarClientesServiceUseCase useCase;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRepassarCadaClienteDoGatewayAoConsumidor() {
+        // Given
+        Cliente cliente1 = Cliente.builder().id(1L).cpf("12345678901").nome("João Silva").build();
+        Cliente cliente2 = Cliente.builder().id(2L).cpf("98765432100").nome("Maria Santos").build();
+        doAnswer(invocation -> {
+            Consumer<Cliente> consumidor = invocation.getArgument(0);
+            consumidor.accept(cliente1);
+            consumidor.accept(cliente2);
+            return null;
+        }).when(gateway).percorrerTodos(any(Consumer.class));
+        List<Cliente> recebidos = new ArrayList<>();
+
+        // When
+        useCase.execute(recebidos::add);
+
+        // Then
+        assertEquals(List.of(cliente1, cliente2), recebidos);
+        verify(gateway, times(1)).percorrerTodos(any(Consumer.class));
+        verifyNoMoreInteractions(gateway);
+    }
+}
@@ -0,0 +1,191 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.domain.ItemImportacao;
+import com.fiap.cliente.domain.StatusImportacao;
+import com.fiap.cliente.domain.TipoEventoCliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.EventoClienteGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarClientesServiceUseCaseTest {
+
+    @Mock
+    private ClienteGateway gateway;
+
+    @Mock
+    private EventoClienteGateway eventoGateway;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportarClientesServiceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportarClientesServiceUseCase(gateway, eventoGateway, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void deveImportarClientesValidosERejeitarInvalidosDuplicadosEExistentes() {
+        // Given
+        Cliente valido = Cliente.builder().nome("João Silva").cpf("12345678901").build();
+        Cliente semNome = Cliente.builder().cpf("11122233344").build();
+        Cliente duplicado = Cliente.builder().nome("João Repetido").cpf("12345678901").build();
+        Cliente existente = Cliente.builder().nome("Maria Santos").cpf("98765432100").build();
+        Cliente outroValido = Cliente.builder().nome("Ana Souza").cpf("55566677788").build();
+        Cliente cpfCurto = Cliente.builder().nome("Pedro Lima").cpf("1234567890").build();
+
+        when(gateway.buscarCpfsExistentes(Set.of("12345678901", "98765432100", "55566677788")))
+                .thenReturn(Set.of("98765432100"));
+        List<Cliente> salvos = List.of(
+                Cliente.builder().id(10L).nome("João Silva").cpf("12345678901").build(),
+                Cliente.builder().id(11L).nome("Ana Souza").cpf("55566677788").build());
+        when(gateway.salvarTodos(List.of(valido, outroValido))).thenReturn(salvos);
+
+        // When
+        List<ItemImportacao> itens = useCase.execute(List.of(valido, semNome, duplicado, existente, outroValido, cpfCurto));
+
+        // Then
+        assertEquals(6, itens.size());
+        assertItem(itens.get(0), 1, StatusImportacao.IMPORTADO, 10L, null);
+        assertItem(itens.get(1), 2, StatusImportacao.REJEITADO, null, "Nome e CPF são obrigatórios!");
+        assertItem(itens.get(2), 3, StatusImportacao.REJEITADO, null, "CPF duplicado na importação (linha 1)!");
+        assertItem(itens.get(3), 4, StatusImportacao.REJEITADO, null, "CPF já cadastrado!");
+        assertItem(itens.get(4), 5, StatusImportacao.IMPORTADO, 11L, null);
+        assertItem(itens.get(5), 6, StatusImportacao.REJEITADO, null, "CPF inválido!");
+
+        verify(gateway).buscarCpfsExistentes(anyCollection());
+        verify(gateway).salvarTodos(List.of(valido, outroValido));
+        verifyNoMoreInteractions(gateway);
+        verify(eventoGateway).registrar(TipoEventoCliente.CRIADO, salvos);
+    }
+
+    @Test
+    void naoDeveGravarQuandoNenhumClienteForNovo() {
+        // Given
+        Cliente existente = Cliente.builder().nome("Maria Santos").cpf("98765432100").build();
+        when(gateway.buscarCpfsExistentes(Set.of("98765432100"))).thenReturn(Set.of("98765432100"));
+
+        // When
+        List<ItemImportacao> itens = useCase.execute(List.of(existente));
+
+        // Then
+        assertEquals(StatusImportacao.REJEITADO, itens.get(0).getStatus());
+        verify(gateway, never()).salvarTodos(any());
+        verifyNoInteractions(eventoGateway);
+    }
+
+    @Test
+    void deveConfirmarCadaLoteEmTransacaoPropria() {
+        // Given
+        int total = ImportarClientesServiceUseCase.TAMANHO_LOTE_COMMIT + 1;
+        List<Cliente> clientes = IntStream.range(0, total)
+                .mapToObj(i -> Cliente.builder()
+                        .nome("Cliente " + i)
+                        .cpf(String.format("%011d", 10_000_000_000L + i))
+                        .build())
+                .toList();
+        when(gateway.buscarCpfsExistentes(anyCollection())).thenReturn(Collections.emptySet());
+        when(gateway.salvarTodos(any())).thenAnswer(invocation -> comIds(invocation.getArgument(0)));
+
+        // When
+        List<ItemImportacao> itens = useCase.execute(clientes);
+
+        // Then
+        assertTrue(itens.stream().allMatch(item -> item.getStatus() == StatusImportacao.IMPORTADO));
+        verify(gateway).salvarTodos(clientes.subList(0, ImportarClientesServiceUseCase.TAMANHO_LOTE_COMMIT));
+        verify(gateway).salvarTodos(clientes.subList(ImportarClientesServiceUseCase.TAMANHO_LOTE_COMMIT, total));
+        verify(eventoGateway, times(2)).registrar(eq(TipoEventoCliente.CRIADO), anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void deveVerificarDeNovoOLoteQuandoCpfForCadastradoConcorrentemente() {
+        // Given
+        Cliente concorrente = Cliente.builder().nome("João Silva").cpf("12345678901").build();
+        Cliente valido = Cliente.builder().nome("Ana Souza").cpf("55566677788").build();
+        when(gateway.buscarCpfsExistentes(anyCollection()))
+                .thenReturn(Collections.emptySet())
+                .thenReturn(Set.of("12345678901"));
+        when(gateway.salvarTodos(List.of(concorrente, valido)))
+                .thenThrow(new DuplicateKeyException("CPF já cadastrado"));
+        List<Cliente> salvos = List.of(Cliente.builder().id(11L).nome("Ana Souza").cpf("55566677788").build());
+        when(gateway.salvarTodos(List.of(valido))).thenReturn(salvos);
+
+        // When
+        List<ItemImportacao> itens = useCase.execute(List.of(concorrente, valido));
+
+        // Then
+        assertItem(itens.get(0), 1, StatusImportacao.REJEITADO, null, "CPF já cadastrado!");
+        assertItem(itens.get(1), 2, StatusImportacao.IMPORTADO, 11L, null);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(eventoGateway).registrar(TipoEventoCliente.CRIADO, salvos);
+    }
+
+    @Test
+    void deveRejeitarOLoteQuandoOConflitoPersistir() {
+        // Given
+        Cliente valido = Cliente.builder().nome("João Silva").cpf("12345678901").build();
+        when(gateway.buscarCpfsExistentes(anyCollection())).thenReturn(Collections.emptySet());
+        when(gateway.salvarTodos(List.of(valido))).thenThrow(new DuplicateKeyException("CPF já cadastrado"));
+
+        // When
+        List<ItemImportacao> itens = useCase.execute(List.of(valido));
+
+        // Then
+        assertItem(itens.get(0), 1, StatusImportacao.REJEITADO, null,
+                "CPF cadastrado concorrentemente durante a importação!");
+        verify(gateway, times(2)).salvarTodos(List.of(valido));
+        verify(transactionManager, times(2)).rollback(any());
+        verifyNoInteractions(eventoGateway);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoImportacaoEstiverVazia() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(List.of()));
+        assertEquals("A importação deve conter entre 1 e 250000 clientes!", exception.getMessage());
+        verifyNoInteractions(gateway);
+    }
+
+    private static List<Cliente> comIds(List<Cliente> clientes) {
+        List<Cliente> salvos = new ArrayList<>(clientes.size());
+        for (Cliente cliente : clientes) {
+            salvos.add(Cliente.builder()
+                    .id((long) salvos.size() + 1)
+                    .nome(cliente.getNome())
+                    .cpf(cliente.getCpf())
+                    .build());
+        }
+        return salvos;
+    }
+
+    private void assertItem(ItemImportacao item, int linha, StatusImportacao status, Long id, String mensagem) {
+        assertEquals(linha, item.getLinha());
+        assertEquals(status, item.getStatus());
+        assertEquals(id, item.getId());
+        assertEquals(mensagem, item.getMensagem());
+    }
+}
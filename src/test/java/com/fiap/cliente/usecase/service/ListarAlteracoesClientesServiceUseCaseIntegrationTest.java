@@ -0,0 +1,124 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import com.fiap.cliente.gateway.backfill.SequenciaAlteracaoBackfillRunner;
+import com.fiap.cliente.gateway.entity.SequenciaAlteracaoGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Atraso de segurança curto para as alterações recém-gravadas entrarem logo na resposta
+@SpringBootTest(properties = {
+        "cliente.sincronizacao.atraso-seguro=1s",
+        "cliente.sincronizacao.duracao-maxima-gravacao=500ms"
+})
+@ActiveProfiles("test")
+class ListarAlteracoesClientesServiceUseCaseIntegrationTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    @Autowired
+    private ListarAlteracoesClientesServiceUseCase useCase;
+
+    @Autowired
+    private AtualizarParcialClienteServiceUseCase atualizarParcialUseCase;
+
+    @Autowired
+    private ClienteGateway gateway;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SequenciaAlteracaoBackfillRunner backfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deveListarCriacoesEAtualizacoesNaOrdemDaUltimaAlteracao() throws InterruptedException {
+        // Given
+        long marca = SequenciaAlteracaoGenerator.proxima();
+        Cliente primeiro = gateway.salvar(Cliente.builder().nome("Ana Souza").cpf(novoCpf()).build());
+        Cliente segundo = gateway.salvar(Cliente.builder().nome("Bruno Lima").cpf(novoCpf()).build());
+        Cliente atualizado = atualizarParcialUseCase.execute(primeiro.getId(), Cliente.builder().nome("Ana Souza Lima").build());
+        aguardarAtrasoSeguro();
+
+        // When
+        List<Cliente> alteracoes = useCase.execute(marca, 1000);
+
+        // Then
+        assertThat(atualizado.getSequenciaAlteracao()).isGreaterThan(segundo.getSequenciaAlteracao());
+        assertThat(alteracoes).extracting(Cliente::getId).containsSubsequence(segundo.getId(), primeiro.getId());
+        assertThat(alteracoes).extracting(Cliente::getId).containsOnlyOnce(primeiro.getId());
+        assertThat(alteracoes).extracting(Cliente::getSequenciaAlteracao).isSorted();
+        assertThat(useCase.execute(atualizado.getSequenciaAlteracao(), 1000))
+                .extracting(Cliente::getId)
+                .doesNotContain(primeiro.getId(), segundo.getId());
+    }
+
+    @Test
+    void deveDesfazerGravacaoQueFariaCommitDepoisDoPrazo() throws InterruptedException {
+        // Given: a sequência é fixada no flush; o commit depois do prazo a deixaria atrás de uma marca d'água entregue
+        long marca = SequenciaAlteracaoGenerator.proxima();
+        String cpfLento = novoCpf();
+
+        // When
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            gateway.salvar(Cliente.builder().nome("Carla Lenta").cpf(cpfLento).build());
+            dormir(700);
+        })).isInstanceOf(IllegalStateException.class);
+        boolean gravadaLenta = gateway.buscarPorCpf(cpfLento).isPresent();
+        // Com a lenta desfeita o mesmo CPF fica livre; se ela seguisse aberta, este INSERT esperaria pela trava
+        Cliente rapido = transactionTemplate.execute(status ->
+                gateway.salvar(Cliente.builder().nome("Davi Rápido").cpf(cpfLento).build()));
+        aguardarAtrasoSeguro();
+
+        // Then
+        assertThat(gravadaLenta).isFalse();
+        assertThat(useCase.execute(marca, 1000)).extracting(Cliente::getId).containsExactly(rapido.getId());
+    }
+
+    @Test
+    void deveIncluirNaPrimeiraSincronizacaoClientesGravadosAntesDaSequencia() throws InterruptedException {
+        // Given: linha anterior à coluna sequencia_alteracao, que fica nula
+        long id = 9_000_000_000L + SEQUENCIA.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf, cpf_numero, versao) VALUES (?, 'Legado', ?, ?, 0)",
+                id, String.format("%011d", id), id);
+        long marca = SequenciaAlteracaoGenerator.proxima();
+
+        // When
+        int preenchidos = backfill.executar();
+        aguardarAtrasoSeguro();
+
+        // Then
+        assertThat(preenchidos).isPositive();
+        assertThat(useCase.execute(marca, 1000)).extracting(Cliente::getId).contains(id);
+    }
+
+    private static void aguardarAtrasoSeguro() throws InterruptedException {
+        Thread.sleep(1100);
+    }
+
+    private static void dormir(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String novoCpf() {
+        return String.format("%011d", 80_000_000_000L + SEQUENCIA.incrementAndGet());
+    }
+}
@@ -0,0 +1,60 @@
+package com.fiap.cliente.usecase.service;
+
+import com.fiap.cliente.domain.Cliente;
+import com.fiap.cliente.gateway.ClienteGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListarAlteracoesClientesServiceUseCaseTest {
+
+    @Mock
+    private ClienteGateway gateway;
+
+    private ListarAlteracoesClientesServiceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListarAlteracoesClientesServiceUseCase(gateway, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void deveListarSomenteAlteracoesMaisAntigasQueOAtrasoSeguro() {
+        // Given
+        List<Cliente> alterados = List.of(Cliente.builder().id(1L).sequenciaAlteracao(11L).build());
+        ArgumentCaptor<Instant> ate = ArgumentCaptor.forClass(Instant.class);
+        when(gateway.listarAlteracoes(eq(10L), ate.capture(), eq(50))).thenReturn(alterados);
+        Instant antes = Instant.now();
+
+        // When
+        List<Cliente> resultado = useCase.execute(10L, 50);
+
+        // Then
+        assertThat(resultado).isEqualTo(alterados);
+        assertThat(ate.getValue()).isBetween(antes.minusSeconds(30), Instant.now().minusSeconds(30));
+    }
+
+    @Test
+    void deveRejeitarLimiteForaDaFaixa() {
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(null, ListarAlteracoesClientesServiceUseCase.LIMITE_MAXIMO + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("O limite deve estar entre 1 e 1000!");
+        verifyNoInteractions(gateway);
+    }
+}
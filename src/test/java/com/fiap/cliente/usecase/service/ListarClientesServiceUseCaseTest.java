@@ -79,10 +79,10 @@ class ListarClientesServiceUseCaseTest {
     @Test
     void deveRetornarListaDeClientesQuandoExistiremClientes() {
         // Given
-        when(gateway.listarTodos()).thenReturn(listaClientes);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaClientes);
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertNotNull(resultado);
@@ -101,24 +101,24 @@ class ListarClientesServiceUseCaseTest {
         assertEquals(cliente3.getNome(), resultado.get(2).getNome());
         assertEquals(cliente3.getCpf(), resultado.get(2).getCpf());
 
-        verify(gateway, times(1)).listarTodos();
+        verify(gateway, times(1)).listarPagina(null, 100);
         verifyNoMoreInteractions(gateway);
     }
 
     @Test
     void deveRetornarListaVaziaQuandoNaoExistiremClientes() {
         // Given
-        when(gateway.listarTodos()).thenReturn(Collections.emptyList());
+        when(gateway.listarPagina(null, 100)).thenReturn(Collections.emptyList());
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
         assertEquals(0, resultado.size());
 
-        verify(gateway, times(1)).listarTodos();
+        verify(gateway, times(1)).listarPagina(null, 100);
         verifyNoMoreInteractions(gateway);
     }
 
@@ -126,10 +126,10 @@ class ListarClientesServiceUseCaseTest {
     void deveRetornarListaComUmClienteQuandoExistirApenasUm() {
         // Given
         List<Cliente> listaComUmCliente = Collections.singletonList(cliente1);
-        when(gateway.listarTodos()).thenReturn(listaComUmCliente);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaComUmCliente);
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertNotNull(resultado);
@@ -138,7 +138,7 @@ class ListarClientesServiceUseCaseTest {
         assertEquals(cliente1.getNome(), resultado.get(0).getNome());
         assertEquals(cliente1.getCpf(), resultado.get(0).getCpf());
 
-        verify(gateway, times(1)).listarTodos();
+        verify(gateway, times(1)).listarPagina(null, 100);
         verifyNoMoreInteractions(gateway);
     }
 
@@ -154,10 +154,10 @@ class ListarClientesServiceUseCaseTest {
                 .build();
 
         List<Cliente> listaComClienteSemEndereco = Arrays.asList(cliente1, clienteSemEndereco);
-        when(gateway.listarTodos()).thenReturn(listaComClienteSemEndereco);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaComClienteSemEndereco);
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertNotNull(resultado);
@@ -169,30 +169,30 @@ class ListarClientesServiceUseCaseTest {
         assertEquals(clienteSemEndereco.getId(), resultado.get(1).getId());
         assertNull(resultado.get(1).getEndereco());
 
-        verify(gateway, times(1)).listarTodos();
+        verify(gateway, times(1)).listarPagina(null, 100);
         verifyNoMoreInteractions(gateway);
     }
 
     @Test
     void deveVerificarQueGatewayEChamadoExatamenteUmaVez() {
         // Given
-        when(gateway.listarTodos()).thenReturn(listaClientes);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaClientes);
 
         // When
-        useCase.execute();
+        useCase.execute(null, 100);
 
         // Then
-        verify(gateway, times(1)).listarTodos();
-        verify(gateway, only()).listarTodos();
+        verify(gateway, times(1)).listarPagina(null, 100);
+        verify(gateway, only()).listarPagina(null, 100);
     }
 
     @Test
     void deveRetornarMesmaListaRetornadaPeloGateway() {
         // Given
-        when(gateway.listarTodos()).thenReturn(listaClientes);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaClientes);
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertSame(listaClientes, resultado);
@@ -202,7 +202,7 @@ class ListarClientesServiceUseCaseTest {
             assertSame(listaClientes.get(i), resultado.get(i));
         }
 
-        verify(gateway).listarTodos();
+        verify(gateway).listarPagina(null, 100);
     }
 
     @Test
@@ -216,10 +216,10 @@ class ListarClientesServiceUseCaseTest {
                 .build();
 
         List<Cliente> listaComDataNula = Arrays.asList(cliente1, clienteComDataNula);
-        when(gateway.listarTodos()).thenReturn(listaComDataNula);
+        when(gateway.listarPagina(null, 100)).thenReturn(listaComDataNula);
 
         // When
-        List<Cliente> resultado = useCase.execute();
+        List<Cliente> resultado = useCase.execute(null, 100);
 
         // Then
         assertNotNull(resultado);
@@ -228,6 +228,36 @@ class ListarClientesServiceUseCaseTest {
         assertEquals(cliente1.getDataNascimento(), resultado.get(0).getDataNascimento());
         assertNull(resultado.get(1).getDataNascimento());
 
-        verify(gateway).listarTodos();
+        verify(gateway).listarPagina(null, 100);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveRetornarPaginaDeClientesAposCursor() {
+        // Given
+        when(gateway.listarPagina(1L, 2)).thenReturn(Arrays.asList(cliente2, cliente3));
+
+        // When
+        List<Cliente> resultado = useCase.execute(1L, 2);
+
+        // Then
+        assertEquals(2, resultado.size());
+        assertEquals(cliente2.getId(), resultado.get(0).getId());
+        assertEquals(cliente3.getId(), resultado.get(1).getId());
+
+        verify(gateway).listarPagina(1L, 2);
+        verifyNoMoreInteractions(gateway);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoLimiteDaPaginaForInvalido() {
+        // When & Then
+        IllegalArgumentException zero = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(null, 0));
+        IllegalArgumentException acima = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(null, 1001));
+
+        assertEquals("O limite deve estar entre 1 e 1000!", zero.getMessage());
+        assertEquals("O limite deve estar entre 1 e 1000!", acima.getMessage());
+        verifyNoInteractions(gateway);
+    }
+}